@@ -0,0 +1,63 @@
+package com.teaminternational.assessment.ewch.benchmark;
+
+import com.teaminternational.assessment.ewch.model.dto.CountryDto;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.model.entity.Area;
+import com.teaminternational.assessment.ewch.model.entity.Country;
+import com.teaminternational.assessment.ewch.model.entity.Employee;
+import com.teaminternational.assessment.ewch.model.entity.JobTitle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Employee employee(Long id) {
+        Area area = new Area(1L, "Services", null, 0L);
+        JobTitle jobTitle = new JobTitle(4L, "Waitress", area, 0L);
+        Country country = new Country(57L, "Denmark", "DK", "DNK", 0L);
+        return new Employee(id, "Harleen Duncan", "hduncan" + id, LocalDate.of(1974, 5, 5),
+                LocalDate.of(2010, 4, 9), 505, 409, jobTitle, country, true, 0.9, 0L, 0);
+    }
+
+    static EmployeeDto employeeDto(Long id) {
+        return new EmployeeDto(id, "Harleen Duncan", "hduncan" + id, LocalDate.of(1974, 5, 5),
+                LocalDate.of(2010, 4, 9), 1L, "Services", 4L, "Waitress", 57L, "Denmark", true, 0.9, 46, 0L);
+    }
+
+    static List<EmployeeDto> employeeDtos(int size) {
+        List<EmployeeDto> employeeDtos = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            employeeDtos.add(employeeDto(id));
+        }
+        return employeeDtos;
+    }
+
+    /**
+     * Generated countries shaped like the 250 from the seed data.
+     */
+    static List<CountryDto> countryDtos(int size) {
+        List<CountryDto> countryDtos = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            String code = Long.toString(id + 1_296, Character.MAX_RADIX).toUpperCase();
+            countryDtos.add(new CountryDto(id, "Country " + id, code.substring(1), code, 0L));
+        }
+        return countryDtos;
+    }
+
+    /**
+     * Inserts {@code rows} generated employees after the ones from the seed migration.
+     */
+    static void seedEmployees(JdbcTemplate jdbcTemplate, int rows) {
+        jdbcTemplate.update("INSERT INTO employees (id, name, username, date_of_birth, hire_date, job_title_id, country_id, status, tip_rate) "
+                + "SELECT X + 6, CONCAT('Employee ', X), CONCAT('bench', X), DATEADD('DAY', -MOD(X, 10000), DATE '1995-01-01'), "
+                + "DATEADD('DAY', -MOD(X, 5000), DATE '2020-01-01'), MOD(X, 9) + 1, MOD(X, 250) + 1, MOD(X, 10) <> 0, MOD(X, 100) / 100.0 "
+                + "FROM SYSTEM_RANGE(1, ?)", rows);
+        jdbcTemplate.execute("ALTER SEQUENCE employees_seq RESTART WITH " + (rows + 7));
+    }
+}
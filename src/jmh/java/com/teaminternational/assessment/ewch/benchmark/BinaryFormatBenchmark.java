@@ -0,0 +1,96 @@
+package com.teaminternational.assessment.ewch.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.teaminternational.assessment.ewch.json.RestaurantJsonModule;
+import com.teaminternational.assessment.ewch.model.dto.CountryDto;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing and parsing the roster (1000 employees) and the 250 countries as JSON, CBOR and Smile, with the modules
+ * the application installs. Serialized and parsed bytes per second are reported as the {@code written} and
+ * {@code read} secondary results; divided by the primary score they give the payload size of each format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    private static final int ROSTER_SIZE = 1_000;
+    private static final int COUNTRIES = 250;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader rosterReader;
+    private ObjectReader countriesReader;
+    private List<EmployeeDto> roster;
+    private List<CountryDto> countries;
+    private byte[] rosterBytes;
+    private byte[] countriesBytes;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+
+        public long written;
+        public long read;
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        JsonFactory factory = "cbor".equals(format) ? new CBORFactory() : "smile".equals(format) ? new SmileFactory() : new JsonFactory();
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new AfterburnerModule(), new RestaurantJsonModule())
+                .build();
+        rosterReader = objectMapper.readerFor(new TypeReference<List<EmployeeDto>>() { });
+        countriesReader = objectMapper.readerFor(new TypeReference<List<CountryDto>>() { });
+        roster = BenchmarkData.employeeDtos(ROSTER_SIZE);
+        countries = BenchmarkData.countryDtos(COUNTRIES);
+        rosterBytes = objectMapper.writeValueAsBytes(roster);
+        countriesBytes = objectMapper.writeValueAsBytes(countries);
+    }
+
+    @Benchmark
+    public byte[] serializeRoster(Bytes counters) throws Exception {
+        byte[] bytes = objectMapper.writeValueAsBytes(roster);
+        counters.written += bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public List<EmployeeDto> deserializeRoster(Bytes counters) throws Exception {
+        counters.read += rosterBytes.length;
+        return rosterReader.readValue(rosterBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeCountries(Bytes counters) throws Exception {
+        byte[] bytes = objectMapper.writeValueAsBytes(countries);
+        counters.written += bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public List<CountryDto> deserializeCountries(Bytes counters) throws Exception {
+        counters.read += countriesBytes.length;
+        return countriesReader.readValue(countriesBytes);
+    }
+}
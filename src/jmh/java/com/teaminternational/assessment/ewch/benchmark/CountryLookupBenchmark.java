@@ -0,0 +1,68 @@
+package com.teaminternational.assessment.ewch.benchmark;
+
+import com.teaminternational.assessment.ewch.RestaurantApiApplication;
+import com.teaminternational.assessment.ewch.model.dto.CountryDto;
+import com.teaminternational.assessment.ewch.search.CountryCodeIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Country lookup by ISO code through {@link CountryCodeIndex} against a query on the indexed code column of the
+ * seeded H2 database. Add {@code -prof gc} to see the allocation per lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class CountryLookupBenchmark {
+
+    private static final RowMapper<CountryDto> COUNTRY = (resultSet, row) -> new CountryDto(resultSet.getLong(1),
+            resultSet.getString(2), resultSet.getString(3), resultSet.getString(4), resultSet.getLong(5));
+
+    @Param({"AL", "alb"})
+    private String code;
+
+    private ConfigurableApplicationContext context;
+    private CountryCodeIndex countryCodeIndex;
+    private JdbcTemplate jdbcTemplate;
+    private String sql;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RestaurantApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:restaurant_bench_country_lookup;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.devtools.restart.enabled=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run();
+        countryCodeIndex = context.getBean(CountryCodeIndex.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        sql = "SELECT id, name, two_char_code, three_char_code, version FROM countries WHERE "
+                + (code.length() == 2 ? "two_char_code" : "three_char_code") + " = ?";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CountryDto codeIndex() {
+        return countryCodeIndex.find(code);
+    }
+
+    @Benchmark
+    public CountryDto databaseQuery() {
+        return jdbcTemplate.queryForObject(sql, COUNTRY, code.toUpperCase());
+    }
+}
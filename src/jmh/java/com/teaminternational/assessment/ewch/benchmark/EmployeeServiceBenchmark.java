@@ -0,0 +1,55 @@
+package com.teaminternational.assessment.ewch.benchmark;
+
+import com.teaminternational.assessment.ewch.RestaurantApiApplication;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.service.IEmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link IEmployeeService#findAllEmployees()} against an in-memory H2 database
+ * seeded with {@code rows} employees on top of the regular seed data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class EmployeeServiceBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private IEmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RestaurantApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:restaurant_bench_" + rows + ";DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.devtools.restart.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        BenchmarkData.seedEmployees(context.getBean(JdbcTemplate.class), rows);
+        employeeService = context.getBean(IEmployeeService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeDto> findAllEmployees() {
+        return employeeService.findAllEmployees();
+    }
+}
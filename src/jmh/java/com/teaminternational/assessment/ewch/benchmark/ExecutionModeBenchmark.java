@@ -0,0 +1,75 @@
+package com.teaminternational.assessment.ewch.benchmark;
+
+import com.teaminternational.assessment.ewch.RestaurantApiApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP load test of the two {@code restaurant.execution.mode}s: 64 concurrent callers page through
+ * 10k employees on an embedded Tomcat that only has {@code tomcatThreads} workers. Run it on a JDK with virtual
+ * threads as well to compare them with the platform pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(64)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class ExecutionModeBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"blocking", "async"})
+    private String mode;
+
+    @Param({"8"})
+    private int tomcatThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RestaurantApiApplication.class)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:restaurant_bench_execution;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.devtools.restart.enabled=false",
+                        "logging.level.root=WARN",
+                        "server.port=0",
+                        "restaurant.rate-limit.enabled=false",
+                        "server.tomcat.threads.max=" + tomcatThreads,
+                        "restaurant.execution.mode=" + mode)
+                .run();
+        BenchmarkData.seedEmployees(context.getBean(JdbcTemplate.class), ROWS);
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/employees/";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int findEmployeesPage() throws Exception {
+        int page = ThreadLocalRandom.current().nextInt(ROWS / PAGE_SIZE);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "?page=" + page + "&size=" + PAGE_SIZE)).build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,85 @@
+package com.teaminternational.assessment.ewch.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.teaminternational.assessment.ewch.json.RestaurantJsonModule;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.model.dto.ResponseDto;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response bodies per second and bytes per second, as written before the fast path (reflective serializers, a
+ * HashMap envelope and PageImpl with its pageable and sort blocks) and after it (generated and hand-written
+ * serializers, ResponseDto and the compact page). Bytes are reported as the {@code bytes} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonFastPathBenchmark {
+
+    @Param({"reflective", "fast"})
+    private String path;
+
+    @Param({"20", "1000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private EmployeeDto employeeDto;
+    private Page<EmployeeDto> page;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Written {
+
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("fast".equals(path)) {
+            builder.modulesToInstall(new AfterburnerModule(), new RestaurantJsonModule());
+        }
+        objectMapper = builder.build();
+        employeeDto = BenchmarkData.employeeDto(1L);
+        page = new PageImpl<>(BenchmarkData.employeeDtos(pageSize), PageRequest.of(0, pageSize), 100_000);
+    }
+
+    @Benchmark
+    public byte[] employeeResponse(Written written) throws Exception {
+        Object response;
+        if ("fast".equals(path)) {
+            response = ResponseDto.of(ErrorMessages.SUCCESS_GETTING_EMPLOYEE, Constants.EMPLOYEE, employeeDto);
+        } else {
+            Map<String, Object> map = new HashMap<>();
+            map.put(Constants.MESSAGE, ErrorMessages.SUCCESS_GETTING_EMPLOYEE);
+            map.put(Constants.EMPLOYEE, employeeDto);
+            response = map;
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(response);
+        written.bytes += bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] employeePage(Written written) throws Exception {
+        byte[] bytes = objectMapper.writeValueAsBytes(page);
+        written.bytes += bytes.length;
+        return bytes;
+    }
+}
@@ -0,0 +1,78 @@
+package com.teaminternational.assessment.ewch.benchmark;
+
+import com.teaminternational.assessment.ewch.mapper.ICountryMapper;
+import com.teaminternational.assessment.ewch.mapper.ICountryMapperImpl;
+import com.teaminternational.assessment.ewch.mapper.IEmployeeMapper;
+import com.teaminternational.assessment.ewch.mapper.IEmployeeMapperImpl;
+import com.teaminternational.assessment.ewch.model.dto.CountryDto;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.model.entity.Country;
+import com.teaminternational.assessment.ewch.model.entity.Employee;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Side-by-side comparison of the reflective {@link ModelMapper} that used to back the services
+ * and the compile-time generated mappers that replaced it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private IEmployeeMapper employeeMapper;
+    private ICountryMapper countryMapper;
+    private Employee employee;
+    private EmployeeDto employeeDto;
+    private Country country;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        employeeMapper = new IEmployeeMapperImpl();
+        countryMapper = new ICountryMapperImpl();
+        employee = BenchmarkData.employee(1L);
+        country = employee.getCountry();
+        employeeDto = employeeMapper.toDto(employee);
+        // Type maps are built lazily on first use; keep that cost out of the measurement.
+        modelMapper.map(employee, EmployeeDto.class);
+        modelMapper.map(employeeDto, Employee.class);
+        modelMapper.map(country, CountryDto.class);
+    }
+
+    @Benchmark
+    public EmployeeDto employeeToDtoModelMapper() {
+        return modelMapper.map(employee, EmployeeDto.class);
+    }
+
+    @Benchmark
+    public EmployeeDto employeeToDtoGenerated() {
+        return employeeMapper.toDto(employee);
+    }
+
+    @Benchmark
+    public Employee employeeToEntityModelMapper() {
+        return modelMapper.map(employeeDto, Employee.class);
+    }
+
+    @Benchmark
+    public Employee employeeToEntityGenerated() {
+        return employeeMapper.toEntity(employeeDto);
+    }
+
+    @Benchmark
+    public CountryDto countryToDtoModelMapper() {
+        return modelMapper.map(country, CountryDto.class);
+    }
+
+    @Benchmark
+    public CountryDto countryToDtoGenerated() {
+        return countryMapper.toDto(country);
+    }
+}
@@ -0,0 +1,92 @@
+package com.teaminternational.assessment.ewch.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.teaminternational.assessment.ewch.exception.ResourceNotFoundException;
+import com.teaminternational.assessment.ewch.json.RestaurantJsonModule;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.model.dto.ResponseDto;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import com.teaminternational.assessment.ewch.utils.ErrorResponses;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 404 bodies per second for an employee id that does not exist, found {@code depth} frames below the controller:
+ * reported with a stack-traced exception caught into a HashMap body as before ({@code thrown}), with the stackless
+ * {@link ResourceNotFoundException} ({@code stackless}), and with an empty Optional answered by the shared
+ * {@link ErrorResponses} body ({@code optional}). Add {@code -prof gc} for allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotFoundPathBenchmark {
+
+    private static final Long MISSING_ID = 999L;
+
+    @Param({"thrown", "stackless", "optional"})
+    private String path;
+
+    @Param({"20", "150"})
+    private int depth;
+
+    private ObjectMapper objectMapper;
+
+    /**
+     * {@link ResourceNotFoundException} as it was before it dropped its stack trace.
+     */
+    private static class StackTracedNotFoundException extends RuntimeException {
+
+        private StackTracedNotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new AfterburnerModule(), new RestaurantJsonModule())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] missingEmployee() throws Exception {
+        if ("optional".equals(path)) {
+            Optional<EmployeeDto> employeeDto = lookup(depth, MISSING_ID);
+            ResponseDto<EmployeeDto> body = employeeDto.isPresent() ? null : ErrorResponses.<EmployeeDto>employeeNotFound().getBody();
+            return objectMapper.writeValueAsBytes(body);
+        }
+        try {
+            lookup(depth, MISSING_ID);
+        } catch (StackTracedNotFoundException | ResourceNotFoundException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put(Constants.ERROR, ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID);
+            response.put(Constants.EMPLOYEE, null);
+            return objectMapper.writeValueAsBytes(response);
+        }
+        throw new IllegalStateException("Employee " + MISSING_ID + " should be missing.");
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private Optional<EmployeeDto> lookup(int frames, Long id) {
+        if (frames > 0) {
+            return lookup(frames - 1, id);
+        }
+        if ("thrown".equals(path)) {
+            throw new StackTracedNotFoundException(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID.concat(id.toString()));
+        }
+        if ("stackless".equals(path)) {
+            throw new ResourceNotFoundException(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID.concat(id.toString()));
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,74 @@
+package com.teaminternational.assessment.ewch.benchmark;
+
+import com.teaminternational.assessment.ewch.RestaurantApiApplication;
+import com.teaminternational.assessment.ewch.mapper.IEmployeeMapper;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.repository.IEmployeeDao;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A page of employees read through managed entities mapped to EmployeeDto, against the constructor expression
+ * that selects the DTO directly. Add {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ReadPathBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"20", "1000"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private IEmployeeDao employeeDao;
+    private IEmployeeMapper employeeMapper;
+    private TransactionTemplate readOnly;
+    private PageRequest pageRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RestaurantApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:restaurant_bench_read_path;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.devtools.restart.enabled=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run();
+        BenchmarkData.seedEmployees(context.getBean(JdbcTemplate.class), ROWS);
+        employeeDao = context.getBean(IEmployeeDao.class);
+        employeeMapper = context.getBean(IEmployeeMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        pageRequest = PageRequest.of(1, pageSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<EmployeeDto> entityPage() {
+        return readOnly.execute(status -> employeeDao.findAll(pageRequest).map(employeeMapper::toDto));
+    }
+
+    @Benchmark
+    public Page<EmployeeDto> projectionPage() {
+        return readOnly.execute(status -> employeeDao.findAllDtos(pageRequest));
+    }
+}
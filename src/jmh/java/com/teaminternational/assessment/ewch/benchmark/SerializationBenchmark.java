@@ -0,0 +1,51 @@
+package com.teaminternational.assessment.ewch.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the payloads returned by EmployeeController, using the same
+ * module set and date handling Spring Boot configures for the web layer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"3", "20"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private EmployeeDto employeeDto;
+    private Page<EmployeeDto> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        employeeDto = BenchmarkData.employeeDto(1L);
+        page = new PageImpl<>(BenchmarkData.employeeDtos(pageSize), PageRequest.of(0, pageSize), 1000);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeeDto() throws Exception {
+        return objectMapper.writeValueAsBytes(employeeDto);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,121 @@
+package com.teaminternational.assessment.ewch.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall time from launching a new JVM to the first 200 from {@code GET /api/v1/employees/1}, for the packaged fat jar
+ * and the fast-startup layout with and without its AppCDS archive. Every invocation starts a fresh process, so build
+ * both layouts first: {@code mvn -Pfast-startup package -DskipTests}. The child JVM is the one running the benchmark,
+ * which has to be the JDK that dumped the archive, and the fast-startup layout is started from its own directory
+ * because the archive records the relative jar path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TimeToFirstRequestBenchmark {
+
+    private static final Path FAT_JAR = Paths.get("target/restaurant-api-0.0.1-SNAPSHOT.jar");
+    private static final Path FAST_STARTUP_DIRECTORY = Paths.get("target/fast-startup");
+    private static final String FAST_STARTUP_JAR = "restaurant-api-0.0.1-SNAPSHOT-fast-startup.jar";
+    private static final String CDS_ARCHIVE = "app.jsa";
+    private static final String FIRST_REQUEST = "/api/v1/employees/1";
+    private static final long POLL_MILLIS = 10;
+    private static final long TIMEOUT_MILLIS = 120_000;
+
+    @Param({"fat-jar", "fast", "fast-cds"})
+    private String layout;
+
+    private HttpClient client;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Path> requiredFiles = layout.equals("fat-jar") ? Arrays.asList(FAT_JAR)
+                : Arrays.asList(FAST_STARTUP_DIRECTORY.resolve(FAST_STARTUP_JAR), FAST_STARTUP_DIRECTORY.resolve(CDS_ARCHIVE));
+        for (Path required : requiredFiles) {
+            if (!Files.exists(required)) {
+                throw new IllegalStateException(required + " is missing, run mvn -Pfast-startup package -DskipTests first");
+            }
+        }
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        process.destroy();
+        process.waitFor();
+    }
+
+    @Benchmark
+    public int firstRequest() throws Exception {
+        int port = freePort();
+        process = new ProcessBuilder(command(port))
+                .directory(layout.equals("fat-jar") ? null : FAST_STARTUP_DIRECTORY.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log().toFile())
+                .start();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + FIRST_REQUEST)).build();
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline && process.isAlive()) {
+            try {
+                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() == 200) {
+                    return response.body().length;
+                }
+            } catch (ConnectException e) {
+                // not listening yet
+            }
+            Thread.sleep(POLL_MILLIS);
+        }
+        throw new IllegalStateException("No 200 from " + FIRST_REQUEST + " with layout " + layout + ", see " + log());
+    }
+
+    private List<String> command(int port) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        switch (layout) {
+            case "fat-jar":
+                command.addAll(Arrays.asList("-jar", FAT_JAR.toString()));
+                break;
+            case "fast":
+                command.addAll(Arrays.asList("-jar", FAST_STARTUP_JAR, "--spring.profiles.active=fast"));
+                break;
+            case "fast-cds":
+                command.addAll(Arrays.asList("-XX:SharedArchiveFile=" + CDS_ARCHIVE, "-Xshare:on",
+                        "-jar", FAST_STARTUP_JAR, "--spring.profiles.active=fast"));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown layout " + layout);
+        }
+        command.add("--server.port=" + port);
+        return command;
+    }
+
+    private Path log() {
+        return Paths.get("target", "time-to-first-request-" + layout + ".log").toAbsolutePath();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.teaminternational.assessment.ewch.benchmark;
+
+import com.teaminternational.assessment.ewch.tips.TipRoster;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits one pool per area across a roster of {@code employees} active employees spread evenly over {@code areas}
+ * areas. {@code parallelism} 1 runs every area on a single worker; 0 uses one worker per processor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class TipDistributionBenchmark {
+
+    @Param({"300000"})
+    private int employees;
+
+    @Param({"10", "100", "1000"})
+    private int areas;
+
+    @Param({"1", "0"})
+    private int parallelism;
+
+    private TipRoster roster;
+    private long[] areaIds;
+    private long[] pools;
+    private ForkJoinPool forkJoinPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        TipRoster.Builder builder = TipRoster.builder();
+        for (int i = 0; i < employees; i++) {
+            builder.add(i * (long) areas / employees + 1, i + 1L, random.nextInt(500));
+        }
+        roster = builder.build();
+        areaIds = new long[areas];
+        pools = new long[areas];
+        for (int i = 0; i < areas; i++) {
+            areaIds[i] = i + 1L;
+            pools[i] = 50_000 + random.nextInt(5_000_000);
+        }
+        forkJoinPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        forkJoinPool.shutdown();
+    }
+
+    @Benchmark
+    public TipRoster.AreaShares[] distribute() {
+        return roster.distribute(areaIds, pools, forkJoinPool);
+    }
+}
@@ -0,0 +1,39 @@
+package com.teaminternational.assessment.ewch.benchmark;
+
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.utils.DateUtils;
+import com.teaminternational.assessment.ewch.utils.Validations;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UtilsBenchmark {
+
+    private EmployeeDto employeeDto;
+    private LocalDate dateOfBirth;
+
+    @Setup
+    public void setUp() {
+        employeeDto = BenchmarkData.employeeDto(1L);
+        dateOfBirth = employeeDto.getDateOfBirth();
+    }
+
+    @Benchmark
+    public void validateFieldsEmployeeDto(Blackhole blackhole) {
+        Validations.validateFieldsEmployeeDto(employeeDto);
+        blackhole.consume(employeeDto);
+    }
+
+    @Benchmark
+    public int getYearsInstantDifferenceFromNow() {
+        return DateUtils.getYearsInstantDifferenceFromNow(dateOfBirth);
+    }
+}
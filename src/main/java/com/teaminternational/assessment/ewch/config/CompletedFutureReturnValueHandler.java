@@ -0,0 +1,81 @@
+package com.teaminternational.assessment.ewch.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.DeferredResultMethodReturnValueHandler;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Writes a {@link CompletableFuture} that is already complete on the servlet thread, the way its value would
+ * have been written had the handler returned it directly. In blocking execution mode every future is complete,
+ * so requests never go through an async dispatch. Anything else is left to the regular async handler.
+ */
+public class CompletedFutureReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private final HandlerMethodReturnValueHandlerComposite delegates = new HandlerMethodReturnValueHandlerComposite();
+    private final HandlerMethodReturnValueHandler asyncHandler;
+
+    public CompletedFutureReturnValueHandler(List<HandlerMethodReturnValueHandler> handlers) {
+        this.delegates.addHandlers(handlers);
+        this.asyncHandler = handlers.stream()
+                .filter(DeferredResultMethodReturnValueHandler.class::isInstance)
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return CompletableFuture.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest) throws Exception {
+        CompletableFuture<?> future = (CompletableFuture<?>) returnValue;
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            asyncHandler.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+            return;
+        }
+        delegates.handleReturnValue(future.join(), new ResultMethodParameter(returnType), mavContainer, webRequest);
+    }
+
+    /**
+     * The handler method's return type with the future unwrapped, so {@code ResponseEntity<T>} is written as usual.
+     */
+    private static final class ResultMethodParameter extends MethodParameter {
+
+        private final ResolvableType resultType;
+
+        ResultMethodParameter(MethodParameter returnType) {
+            super(returnType);
+            this.resultType = ResolvableType.forMethodParameter(returnType).getGeneric();
+        }
+
+        private ResultMethodParameter(ResultMethodParameter original) {
+            super(original);
+            this.resultType = original.resultType;
+        }
+
+        @Override
+        public Class<?> getParameterType() {
+            return resultType.toClass();
+        }
+
+        @Override
+        public Type getGenericParameterType() {
+            return resultType.getType();
+        }
+
+        @Override
+        public ResultMethodParameter clone() {
+            return new ResultMethodParameter(this);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.teaminternational.assessment.ewch.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chooses how controllers run their work, see {@code restaurant.execution.*} in application.properties.
+ * The build targets Java 11, so virtual threads are looked up reflectively and only used on a JDK that has them.
+ */
+@Configuration
+public class ExecutionConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionConfig.class);
+
+    @Bean(destroyMethod = "shutdown")
+    public RequestExecutor requestExecutor(@Value("${restaurant.execution.mode:BLOCKING}") RequestExecutor.Mode mode,
+                                           @Value("${restaurant.execution.virtual-threads:true}") boolean virtualThreads,
+                                           @Value("${restaurant.execution.pool-size:32}") int poolSize,
+                                           @Value("${restaurant.execution.max-pending:1000}") int maxPending) {
+        if (mode == RequestExecutor.Mode.BLOCKING) {
+            LOGGER.info("Controllers run on the servlet thread.");
+            return RequestExecutor.blocking();
+        }
+        ExecutorService virtualThreadExecutor = virtualThreads ? newVirtualThreadPerTaskExecutor() : null;
+        if (virtualThreadExecutor != null) {
+            LOGGER.info("Controllers run on virtual threads, at most {} at a time.", maxPending);
+            return RequestExecutor.async(bounded(virtualThreadExecutor, maxPending), virtualThreadExecutor);
+        }
+        LOGGER.info("Controllers run on a pool of {} threads with {} pending tasks at most.", poolSize, maxPending);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxPending), namedThreads(), new ThreadPoolExecutor.AbortPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return RequestExecutor.async(pool, pool);
+    }
+
+    /**
+     * Puts {@link CompletedFutureReturnValueHandler} ahead of the built-in async handler. Never lazy: the callback only
+     * runs for singletons created at startup.
+     */
+    @Bean
+    @Lazy(false)
+    public SmartInitializingSingleton completedFutureReturnValueHandlerRegistrar(
+            ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter) {
+        return () -> handlerAdapter.ifAvailable(adapter -> {
+            List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>(adapter.getReturnValueHandlers());
+            handlers.add(0, new CompletedFutureReturnValueHandler(adapter.getReturnValueHandlers()));
+            adapter.setReturnValueHandlers(handlers);
+        });
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A virtual thread per task never queues, so the bound is a limit on tasks in flight.
+     */
+    private static Executor bounded(Executor executor, int maxInFlight) {
+        Semaphore permits = new Semaphore(maxInFlight);
+        return command -> {
+            if (!permits.tryAcquire()) {
+                throw new RejectedExecutionException();
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        command.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                throw e;
+            }
+        };
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "request-executor-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.teaminternational.assessment.ewch.config;
+
+import com.teaminternational.assessment.ewch.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latency of every public service method into a timer with p50, p99 and p999, and counts exceptions by
+ * type. A {@code lookup*} method returning an empty {@link Optional} is counted as the
+ * {@link ResourceNotFoundException} its {@code find*} counterpart would have thrown, so misses stay visible now that
+ * lookups do not throw. Runs outside the transaction interceptor so commit time is part of the latency. Controllers
+ * are left out: in async mode they return as soon as the work is handed to the executor, so their timers would
+ * measure nothing; {@code http_server_requests} covers the request as a whole.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MethodMetricsAspect {
+
+    private static final String METHOD_TIMER = "restaurant.method";
+    private static final String ERROR_COUNTER = "restaurant.errors";
+    private static final String NO_EXCEPTION = "none";
+    private static final String LOOKUP_PREFIX = "lookup";
+
+    private final MeterRegistry registry;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<Method, Map<Class<?>, Timer>> errorTimers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Instrumented calls on this thread, so an exception propagating through nested methods is counted once.
+     */
+    private final ThreadLocal<Calls> calls = ThreadLocal.withInitial(Calls::new);
+
+    private static class Calls {
+
+        private int depth;
+
+        /**
+         * Exception counted by the innermost method it escaped from, until the outermost call returns.
+         */
+        private Throwable counted;
+    }
+
+    public MethodMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.teaminternational.assessment.ewch.service.impl..*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Calls current = calls.get();
+        current.depth++;
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            timers.computeIfAbsent(method, key -> timer(key, NO_EXCEPTION))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (result instanceof Optional && !((Optional<?>) result).isPresent()
+                    && method.getName().startsWith(LOOKUP_PREFIX)) {
+                count(ResourceNotFoundException.class);
+            }
+            return result;
+        } catch (Throwable e) {
+            Class<?> exception = e.getClass();
+            errorTimers.computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(exception, key -> timer(method, key.getSimpleName()))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!isCounted(e, current.counted)) {
+                count(exception);
+            }
+            current.counted = e;
+            throw e;
+        } finally {
+            if (--current.depth == 0) {
+                calls.remove();
+            }
+        }
+    }
+
+    private void count(Class<?> exception) {
+        errorCounters.computeIfAbsent(exception, key -> Counter.builder(ERROR_COUNTER)
+                .tag("exception", key.getSimpleName())
+                .register(registry))
+                .increment();
+    }
+
+    /**
+     * Whether {@code e} is the exception already counted on this thread, or wraps it.
+     */
+    private static boolean isCounted(Throwable e, Throwable counted) {
+        for (Throwable cause = e; counted != null && cause != null; cause = cause.getCause()) {
+            if (cause == counted) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Timer timer(Method method, String exception) {
+        return Timer.builder(METHOD_TIMER)
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(registry);
+    }
+}
@@ -0,0 +1,65 @@
+package com.teaminternational.assessment.ewch.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * File-backed H2, see application-persistent.properties. A missing database file is restored from the snapshot the
+ * build makes by running the migrations, so Flyway only has to apply migrations newer than the snapshot. The restore
+ * happens when the data source is created, before anything (the H2 console included) opens a connection.
+ */
+@Configuration
+@Profile("persistent")
+public class PersistentDatabaseConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersistentDatabaseConfig.class);
+
+    private static final String H2_FILE_SUFFIX = ".mv.db";
+
+    @Bean
+    public static BeanPostProcessor databaseSnapshotRestorer(@Value("${restaurant.db.file}") String file,
+                                                             @Value("${restaurant.db.snapshot}") Resource snapshot) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource) {
+                    restoreSnapshot(Paths.get(file + H2_FILE_SUFFIX), snapshot);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static void restoreSnapshot(Path database, Resource snapshot) {
+        if (Files.exists(database)) {
+            LOGGER.info("Opening database {}.", database);
+            return;
+        }
+        if (!snapshot.exists()) {
+            LOGGER.info("No snapshot found, creating database {} from the migrations.", database);
+            return;
+        }
+        try (InputStream in = snapshot.getInputStream()) {
+            Path parent = database.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Files.copy(in, database);
+            LOGGER.info("Restored database {} from snapshot {}.", database, snapshot.getDescription());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not restore database snapshot " + snapshot.getDescription(), e);
+        }
+    }
+}
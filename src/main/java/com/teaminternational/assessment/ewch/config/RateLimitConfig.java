@@ -0,0 +1,140 @@
+package com.teaminternational.assessment.ewch.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teaminternational.assessment.ewch.ratelimit.RateLimit;
+import com.teaminternational.assessment.ewch.ratelimit.RateLimitFilter;
+import com.teaminternational.assessment.ewch.ratelimit.TokenBuckets;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiting in front of {@code /api/v1}, see {@code restaurant.rate-limit.*} in
+ * application.properties. On unless {@code restaurant.rate-limit.enabled=false}. Runs right after the metrics filter,
+ * so rejected requests still show up in {@code http_server_requests}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "restaurant.rate-limit.enabled", matchIfMissing = true)
+public class RateLimitConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitConfig.class);
+
+    private static final String API_PREFIX = "/api/v1";
+
+    private final TokenBuckets buckets;
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+    private Map<String, RateLimit> endpointLimits;
+    private RateLimitFilter filter;
+
+    @Value("${restaurant.rate-limit.idle-expiry:600000}")
+    private long idleExpiry;
+
+    public RateLimitConfig(@Value("${restaurant.rate-limit.max-buckets:100000}") int maxBuckets,
+            @Qualifier("requestMappingHandlerMapping") ObjectProvider<RequestMappingHandlerMapping> handlerMapping) {
+        this.buckets = new TokenBuckets(Runtime.getRuntime().availableProcessors() * 4, maxBuckets);
+        this.handlerMapping = handlerMapping;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            @Value("${restaurant.rate-limit.client:200/100}") String clientLimit,
+            @Value("${restaurant.rate-limit.endpoint:100/50}") String endpointLimit,
+            @Value("${restaurant.rate-limit.endpoints:}") String[] endpointLimits,
+            @Value("${restaurant.rate-limit.api-keys:}") String[] apiKeys,
+            ObjectMapper objectMapper, MeterRegistry registry) {
+        Gauge.builder("restaurant.ratelimit.buckets", buckets, TokenBuckets::size).register(registry);
+        LOGGER.info("Rate limiting /api/v1 at {} per client and {} per endpoint.", clientLimit, endpointLimit);
+        this.endpointLimits = parseEndpointLimits(endpointLimits);
+        this.filter = new RateLimitFilter(buckets, RateLimit.parse(clientLimit), RateLimit.parse(endpointLimit),
+                this.endpointLimits, parseApiKeys(apiKeys), objectMapper, registry);
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/v1/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+    /**
+     * Names the endpoints of every mapped {@code /api/v1} route, once the handler mapping is complete. Requests for
+     * any other path share one endpoint bucket per client.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void registerRoutes() {
+        RequestMappingHandlerMapping mapping = handlerMapping.getIfAvailable();
+        if (filter == null || mapping == null) {
+            return;
+        }
+        Set<String> routes = new HashSet<>();
+        mapping.getHandlerMethods().keySet().forEach(info -> {
+            Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+            for (RequestMethod method : methods.isEmpty() ? EnumSet.allOf(RequestMethod.class) : methods) {
+                for (String pattern : info.getPatternsCondition().getPatterns()) {
+                    if (pattern.startsWith(API_PREFIX)) {
+                        routes.add(RateLimitFilter.endpoint(method.name(), pattern));
+                    }
+                }
+            }
+        });
+        endpointLimits.keySet().stream()
+                .filter(endpoint -> !routes.contains(endpoint) && !RateLimitFilter.UNMAPPED.equals(endpoint))
+                .forEach(endpoint -> LOGGER.warn("Rate limit set for {}, which matches no route :: registerRoutes", endpoint));
+        filter.setRoutes(Collections.unmodifiableSet(routes));
+    }
+
+    @Scheduled(fixedDelayString = "${restaurant.rate-limit.idle-expiry:600000}")
+    public void evictIdleBuckets() {
+        int evicted = buckets.evictIdle(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(idleExpiry));
+        if (evicted > 0) {
+            LOGGER.debug("Evicted {} idle rate limit buckets :: evictIdleBuckets", evicted);
+        }
+    }
+
+    private static Set<String> parseApiKeys(String[] apiKeys) {
+        Set<String> keys = new HashSet<>();
+        for (String apiKey : apiKeys) {
+            if (!apiKey.trim().isEmpty()) {
+                keys.add(apiKey.trim());
+            }
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Reads entries like {@code GET /employees/all=20/5}, endpoints written the way {@link RateLimitFilter} names them.
+     */
+    private static Map<String, RateLimit> parseEndpointLimits(String[] endpointLimits) {
+        Map<String, RateLimit> limits = new HashMap<>();
+        for (String entry : endpointLimits) {
+            if (entry.trim().isEmpty()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Endpoint rate limits are written METHOD /path=capacity/refillPerSecond, got: " + entry);
+            }
+            limits.put(entry.substring(0, separator).trim(), RateLimit.parse(entry.substring(separator + 1)));
+        }
+        return limits;
+    }
+}
@@ -0,0 +1,59 @@
+package com.teaminternational.assessment.ewch.config;
+
+import com.teaminternational.assessment.ewch.exception.ServerBusyException;
+import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Runs the work of a controller method. In {@link Mode#BLOCKING} it runs inline on the servlet thread, in
+ * {@link Mode#ASYNC} it runs on a bounded executor so the servlet thread is released while JDBC is waited on.
+ */
+public class RequestExecutor {
+
+    public enum Mode {
+        BLOCKING,
+        ASYNC
+    }
+
+    private final Executor executor;
+    private final ExecutorService executorService;
+
+    private RequestExecutor(Executor executor, ExecutorService executorService) {
+        this.executor = executor;
+        this.executorService = executorService;
+    }
+
+    public static RequestExecutor blocking() {
+        return new RequestExecutor(null, null);
+    }
+
+    /**
+     * @param executor        bounded executor that rejects work once full
+     * @param executorService the underlying service, shut down with the application context
+     */
+    public static RequestExecutor async(Executor executor, ExecutorService executorService) {
+        return new RequestExecutor(executor, executorService);
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            throw new ServerBusyException(ErrorMessages.SERVER_BUSY, e);
+        }
+    }
+
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.teaminternational.assessment.ewch.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Training run for the AppCDS archive of the fast-startup build: once ready, the application serves the same first
+ * request the startup benchmark waits for, so the request path gets loaded too, and exits. The JVM then writes the
+ * list of loaded classes the archive is dumped from.
+ */
+@Component
+@Profile("fast")
+@ConditionalOnProperty("restaurant.startup.training-run")
+public class StartupTrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupTrainingRun.class);
+
+    private static final String FIRST_REQUEST = "/api/v1/employees/1";
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        ResponseEntity<String> response = new RestTemplate()
+                .getForEntity("http://localhost:" + port + FIRST_REQUEST, String.class);
+        LOGGER.info("Training run answered {} with {}, exiting.", FIRST_REQUEST, response.getStatusCodeValue());
+        System.exit(SpringApplication.exit(context));
+    }
+}
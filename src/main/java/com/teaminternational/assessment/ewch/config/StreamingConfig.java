@@ -0,0 +1,39 @@
+package com.teaminternational.assessment.ewch.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Gives the {@code /all/stream} exports their own async timeout, {@code restaurant.streaming.timeout}, while every
+ * other async request keeps the container default. A {@link StreamingResponseBody} is the only thing served through
+ * Callable processing here; CompletableFuture results go through DeferredResult processing and are not affected.
+ */
+@Configuration
+public class StreamingConfig implements WebMvcConfigurer {
+
+    private final long timeout;
+
+    public StreamingConfig(@Value("${restaurant.streaming.timeout:300000}") long timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                if (request instanceof AsyncWebRequest) {
+                    ((AsyncWebRequest) request).setTimeout(timeout);
+                }
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.teaminternational.assessment.ewch.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import springfox.documentation.builders.PathSelectors;
@@ -10,6 +11,7 @@ import springfox.documentation.swagger2.annotations.EnableSwagger2;
 
 @Configuration
 @EnableSwagger2
+@ConditionalOnProperty(value = "springfox.documentation.enabled", matchIfMissing = true)
 public class SwaggerConfig {
 
     @Bean
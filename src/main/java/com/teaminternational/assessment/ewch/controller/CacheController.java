@@ -0,0 +1,37 @@
+package com.teaminternational.assessment.ewch.controller;
+
+import com.teaminternational.assessment.ewch.model.dto.CacheStatisticsDto;
+import com.teaminternational.assessment.ewch.service.ICacheStatisticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/cache")
+public class CacheController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheController.class);
+
+    private final ICacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    public CacheController(ICacheStatisticsService cacheStatisticsService) {
+        this.cacheStatisticsService = cacheStatisticsService;
+    }
+
+    @GetMapping(value = "/statistics", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<CacheStatisticsDto>> findAllCacheStatistics() {
+        LOGGER.info("[CacheController]: Getting cache statistics :: findAllCacheStatistics");
+        List<CacheStatisticsDto> statistics = cacheStatisticsService.findAllCacheStatistics();
+        LOGGER.info("[CacheController]: Returning cache statistics.");
+        return new ResponseEntity<>(statistics, HttpStatus.OK);
+    }
+}
@@ -1,29 +1,36 @@
 package com.teaminternational.assessment.ewch.controller;
 
-import com.teaminternational.assessment.ewch.exception.FieldIsNullOrEmptyException;
-import com.teaminternational.assessment.ewch.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teaminternational.assessment.ewch.config.RequestExecutor;
+import com.teaminternational.assessment.ewch.json.DataFormats;
 import com.teaminternational.assessment.ewch.model.dto.CountryDto;
+import com.teaminternational.assessment.ewch.model.dto.CursorPageDto;
+import com.teaminternational.assessment.ewch.model.dto.ResponseDto;
 import com.teaminternational.assessment.ewch.service.ICountryService;
 import com.teaminternational.assessment.ewch.utils.Constants;
+import com.teaminternational.assessment.ewch.utils.ETags;
 import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import com.teaminternational.assessment.ewch.utils.ErrorResponses;
+import com.teaminternational.assessment.ewch.utils.JsonStreams;
 import com.teaminternational.assessment.ewch.utils.Validations;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/countries")
@@ -32,169 +39,206 @@ public class CountryController {
     private static final Logger LOGGER = LoggerFactory.getLogger(CountryController.class);
 
     private final ICountryService countryService;
+    private final ObjectMapper objectMapper;
+    private final DataFormats dataFormats;
+    private final RequestExecutor requestExecutor;
 
     @Autowired
-    public CountryController(ICountryService countryService) {
+    public CountryController(ICountryService countryService, ObjectMapper objectMapper, DataFormats dataFormats,
+            RequestExecutor requestExecutor) {
         this.countryService = countryService;
+        this.objectMapper = objectMapper;
+        this.dataFormats = dataFormats;
+        this.requestExecutor = requestExecutor;
     }
 
-    @GetMapping(value = "/all", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<CountryDto>> findAllCountrys() {
-        LOGGER.info("[CountryController]: Getting all countries :: findAllCountrys");
-        List<CountryDto> countries = countryService.findAllCountries();
-        LOGGER.info("[CountryController]: Returning all countries.");
-        return new ResponseEntity<>(countries, HttpStatus.OK);
+    @GetMapping(value = "/all", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<List<CountryDto>>> findAllCountrys(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[CountryController]: Getting all countries :: findAllCountrys");
+            String etag = countryService.findAllCountriesETag();
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ETags.notModified(etag);
+            }
+            List<CountryDto> countries = countryService.findAllCountries();
+            LOGGER.info("[CountryController]: Returning all countries.");
+            return new ResponseEntity<>(countries, ETags.headers(etag), HttpStatus.OK);
+        });
     }
 
-    @GetMapping(value = "/page/{page}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Page<CountryDto>> findAllCountrys(@PathVariable Integer page) {
-        LOGGER.info("[CountryController]: Getting all countries :: findAllCountrysPageable");
-        Pageable pageable = PageRequest.of(page, 3);
-        Page<CountryDto> countries = countryService.findAllCountries(pageable);
-        LOGGER.info("[CountryController]: Returning all Pageable countries.");
-        return new ResponseEntity<>(countries, HttpStatus.OK);
+    @GetMapping(value = "/all/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamAllCountries(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        LOGGER.info("[CountryController]: Streaming all countries :: streamAllCountries");
+        MediaType mediaType = dataFormats.negotiate(accept);
+        StreamingResponseBody body = JsonStreams.jsonArray(dataFormats.objectMapper(mediaType), countryService::streamAllCountries);
+        return ResponseEntity.ok().contentType(mediaType).body(body);
     }
 
-    @GetMapping(value = "/", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Page<CountryDto>> findAllCountriesPageable(Pageable pageable) {
-        LOGGER.info("[CountryController]: Getting all countries :: findAllCountrysPageable");
-        Page<CountryDto> countries = countryService.findAllCountries(pageable);
-        LOGGER.info("[CountryController]: Returning all Pageable countries.");
-        return new ResponseEntity<>(countries, HttpStatus.OK);
+    @GetMapping(value = "/all/stream", produces = Constants.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllCountriesNdjson() {
+        LOGGER.info("[CountryController]: Streaming all countries :: streamAllCountriesNdjson");
+        StreamingResponseBody body = JsonStreams.ndjson(objectMapper, countryService::streamAllCountries);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(Constants.APPLICATION_NDJSON_VALUE)).body(body);
     }
 
-    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> findCountryById(@PathVariable Long id) {
-        LOGGER.info("[CountryController]: Getting country by id :: findCountryById");
-        CountryDto countryDto;
-        Map<String, Object> response = new HashMap<>();
-        try {
-            countryDto = countryService.findCountryById(id);
-        } catch (ResourceNotFoundException rnfe) {
-            LOGGER.error(ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID);
-            response.put(Constants.ERROR, ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID);
-            response.put(Constants.AREA, null);
-            return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_GETTING_COUNTRY);
-        response.put(Constants.COUNTRY, countryDto);
-        LOGGER.info("[CountryController]: Returning country by id.");
-        return new ResponseEntity<>(response, HttpStatus.OK);
+    @GetMapping(value = "/page/{page}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<Page<CountryDto>>> findAllCountrys(@PathVariable Integer page,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[CountryController]: Getting all countries :: findAllCountrysPageable");
+            String etag = countryService.findAllCountriesETag();
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ETags.notModified(etag);
+            }
+            Pageable pageable = PageRequest.of(page, 3);
+            Page<CountryDto> countries = countryService.findAllCountries(pageable);
+            LOGGER.info("[CountryController]: Returning all Pageable countries.");
+            return new ResponseEntity<>(countries, ETags.headers(etag), HttpStatus.OK);
+        });
     }
 
-    @GetMapping(value = "/name/{name}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> findCountryByName(@PathVariable String name) {
-        LOGGER.info("[CountryController]: Getting country by name :: findCountryByUsername");
-        CountryDto countryDto;
-        Map<String, Object> response = new HashMap<>();
-        try {
-            countryDto = countryService.findCountryByName(name);
-        } catch (ResourceNotFoundException rnfe) {
-            LOGGER.error(ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID.concat(name));
-            response.put(Constants.ERROR, ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID.concat(name));
-            response.put(Constants.COUNTRY, null);
-            return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_GETTING_COUNTRY);
-        response.put(Constants.AREA, countryDto);
-        LOGGER.info("[CountryController]: Returning country by name.");
-        return new ResponseEntity<>(response, HttpStatus.OK);
+    @GetMapping(value = "/", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<Page<CountryDto>>> findAllCountriesPageable(Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[CountryController]: Getting all countries :: findAllCountrysPageable");
+            String etag = countryService.findAllCountriesETag();
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ETags.notModified(etag);
+            }
+            Page<CountryDto> countries = countryService.findAllCountries(pageable);
+            LOGGER.info("[CountryController]: Returning all Pageable countries.");
+            return new ResponseEntity<>(countries, ETags.headers(etag), HttpStatus.OK);
+        });
     }
 
-    @PostMapping(value = "/", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> createCountry(@Valid @RequestBody CountryDto countryDto, BindingResult result) {
-        LOGGER.info("[CountryController]: Creating new country :: createCountry");
-        CountryDto newCountryDto;
-        Map<String, Object> response = new HashMap<>();
-        if (Validations.checkHasErrors(result, response)) {
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        }
-        try {
-            newCountryDto = countryService.createCountry(countryDto);
-        } catch (FieldIsNullOrEmptyException finoee) {
-            LOGGER.error(ErrorMessages.ERROR_CREATING_COUNTRY);
-            response.put(Constants.ERROR, finoee.getMessage());
-            response.put(Constants.COUNTRY, countryDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (DataAccessException dive) {
-            LOGGER.error(ErrorMessages.ERROR_CREATING_COUNTRY);
-            response.put(Constants.ERROR, ErrorMessages.ERROR_CREATING_COUNTRY);
-            response.put(Constants.COUNTRY, countryDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (Exception e) {
-            LOGGER.error(ErrorMessages.ERROR_CREATING_COUNTRY.concat(": ").concat(e.getMessage()).concat(e.getCause().toString()));
-            response.put(Constants.ERROR, ErrorMessages.ERROR_CREATING_COUNTRY);
-            response.put(Constants.COUNTRY, countryDto);
-            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_CREATING_COUNTRY);
-        response.put(Constants.COUNTRY, newCountryDto);
-        LOGGER.info("New created country. [{}]", newCountryDto);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    @GetMapping(value = "/cursor", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<CursorPageDto<CountryDto>>> findAllCountriesCursor(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_CURSOR_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "false") boolean total, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[CountryController]: Getting all countries :: findAllCountriesCursor");
+            String etag = countryService.findAllCountriesETag();
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ETags.notModified(etag);
+            }
+            CursorPageDto<CountryDto> countries = countryService.findAllCountries(cursor, size, total);
+            LOGGER.info("[CountryController]: Returning cursor page of countries.");
+            return new ResponseEntity<>(countries, ETags.headers(etag), HttpStatus.OK);
+        });
     }
 
-    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> updateCountry(@Valid @RequestBody CountryDto countryDto, BindingResult result, @PathVariable Long id) {
-        LOGGER.info("[CountryController]: Updating country :: updateCountry");
-        CountryDto updatedCountry;
-        Map<String, Object> response = new HashMap<>();
-        if (Validations.checkHasErrors(result, response)) {
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        }
-        try {
-            updatedCountry = countryService.updateCountry(countryDto, id);
-        } catch (FieldIsNullOrEmptyException finoee) {
-            LOGGER.error(ErrorMessages.ERROR_UPDATING_COUNTRY);
-            response.put(Constants.ERROR, finoee.getMessage());
-            response.put(Constants.COUNTRY, countryDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (DataAccessException dive) {
-            LOGGER.error(ErrorMessages.ERROR_UPDATING_COUNTRY);
-            response.put(Constants.ERROR, ErrorMessages.ERROR_UPDATING_COUNTRY);
-            response.put(Constants.COUNTRY, countryDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (Exception e) {
-            LOGGER.error(ErrorMessages.ERROR_UPDATING_COUNTRY.concat(": ").concat(e.getMessage()).concat(e.getCause().toString()));
-            response.put(Constants.ERROR, ErrorMessages.ERROR_UPDATING_COUNTRY);
-            response.put(Constants.COUNTRY, countryDto);
-            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_UPDATING_COUNTRY);
-        response.put(Constants.COUNTRY, updatedCountry);
-        LOGGER.info("Updated country. [{}]", updatedCountry);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<CountryDto>>> findCountryById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[CountryController]: Getting country by id :: findCountryById");
+            Optional<String> etag = countryService.lookupCountryETag(id);
+            if (etag.isPresent() && ETags.matches(ifNoneMatch, etag.get())) {
+                return ETags.notModified(etag.get());
+            }
+            Optional<CountryDto> countryDto = etag.isPresent() ? countryService.lookupCountryById(id) : Optional.empty();
+            if (!countryDto.isPresent()) {
+                LOGGER.error(ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID);
+                return ErrorResponses.countryNotFound();
+            }
+            LOGGER.info("[CountryController]: Returning country by id.");
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_GETTING_COUNTRY, Constants.COUNTRY, countryDto.get()),
+                    ETags.headers(etag.get()), HttpStatus.OK);
+        });
     }
 
-    @DeleteMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/name/{name}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<CountryDto>>> findCountryByName(@PathVariable String name,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[CountryController]: Getting country by name :: findCountryByUsername");
+            String etag = countryService.findAllCountriesETag();
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ETags.notModified(etag);
+            }
+            Optional<CountryDto> countryDto = countryService.lookupCountryByName(name);
+            if (!countryDto.isPresent()) {
+                LOGGER.error(ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID.concat(name));
+                return ErrorResponses.notFound(ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID, Constants.COUNTRY, name);
+            }
+            LOGGER.info("[CountryController]: Returning country by name.");
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_GETTING_COUNTRY, Constants.AREA, countryDto.get()),
+                    ETags.headers(etag), HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/code/{code}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<CountryDto>>> findCountryByCode(@PathVariable String code,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[CountryController]: Getting country by code :: findCountryByCode");
+            String etag = countryService.findAllCountriesETag();
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ETags.notModified(etag);
+            }
+            Optional<CountryDto> countryDto = countryService.lookupCountryByCode(code);
+            if (!countryDto.isPresent()) {
+                LOGGER.error(ErrorMessages.COUNTRY_NOT_FOUND_WITH_CODE.concat(code));
+                return ErrorResponses.notFound(ErrorMessages.COUNTRY_NOT_FOUND_WITH_CODE, Constants.COUNTRY, code);
+            }
+            LOGGER.info("[CountryController]: Returning country by code.");
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_GETTING_COUNTRY, Constants.COUNTRY, countryDto.get()),
+                    ETags.headers(etag), HttpStatus.OK);
+        });
+    }
+
+    @PostMapping(value = "/", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<CountryDto>>> createCountry(@Valid @RequestBody CountryDto countryDto, BindingResult result) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[CountryController]: Creating new country :: createCountry");
+            if (result.hasErrors()) {
+                return new ResponseEntity<>(Validations.fieldErrors(result), HttpStatus.BAD_REQUEST);
+            }
+            CountryDto newCountryDto = countryService.createCountry(countryDto);
+            LOGGER.info("New created country. [{}]", newCountryDto);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_CREATING_COUNTRY, Constants.COUNTRY, newCountryDto),
+                    HttpStatus.CREATED);
+        });
+    }
+
+    @PutMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<CountryDto>>> updateCountry(@Valid @RequestBody CountryDto countryDto, BindingResult result, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[CountryController]: Updating country :: updateCountry");
+            if (result.hasErrors()) {
+                return new ResponseEntity<>(Validations.fieldErrors(result), HttpStatus.BAD_REQUEST);
+            }
+            CountryDto updatedCountry = countryService.updateCountry(countryDto, id, ETags.versionFromIfMatch(ifMatch, id));
+            LOGGER.info("Updated country. [{}]", updatedCountry);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_UPDATING_COUNTRY, Constants.COUNTRY, updatedCountry),
+                    HttpStatus.CREATED);
+        });
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<Void>>> patchCountry(@RequestBody CountryDto countryDto, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[CountryController]: Patching country :: patchCountry");
+            countryService.patchCountry(countryDto, id, ETags.versionFromIfMatch(ifMatch, id));
+            LOGGER.info("[CountryController]: Patched country. [{}]", id);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_UPDATING_COUNTRY), HttpStatus.OK);
+        });
+    }
+
+    @DeleteMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public ResponseEntity<Map<String, Object>> deleteCountry(@PathVariable Long id) {
-        LOGGER.info("[CountryController]: Deleting country :: deleteCountry");
-        CountryDto currentCountryDto;
-        CountryDto deletedCountry;
-        Map<String, Object> response = new HashMap<>();
-        try {
-            currentCountryDto = countryService.findCountryById(id);
-            deletedCountry = countryService.deleteCountry(currentCountryDto.getId());
-            response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_DELETED_COUNTRY);
-            response.put(Constants.COUNTRY, deletedCountry);
+    public CompletableFuture<ResponseEntity<ResponseDto<CountryDto>>> deleteCountry(@PathVariable Long id) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[CountryController]: Deleting country :: deleteCountry");
+            CountryDto currentCountryDto = countryService.findCountryById(id);
+            CountryDto deletedCountry = countryService.deleteCountry(currentCountryDto.getId());
             LOGGER.info("Deleted country. [{}]", currentCountryDto);
-        } catch (ResourceNotFoundException nfe) {
-            LOGGER.error(ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID.concat(id.toString()));
-            response.put(Constants.ERROR, ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID.concat(id.toString()));
-            response.put(Constants.COUNTRY, null);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (DataAccessException dae) {
-            LOGGER.error(ErrorMessages.ERROR_DELETING_COUNTRY);
-            response.put(Constants.ERROR, ErrorMessages.ERROR_DELETING_COUNTRY);
-            response.put(Constants.COUNTRY, null);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (Exception e) {
-            response.put(Constants.ERROR, ErrorMessages.ERROR_DELETING_COUNTRY.concat(": ").concat(e.getMessage()).concat(e.getCause().toString()));
-            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_DELETED_COUNTRY);
-        response.put(Constants.AREA, currentCountryDto);
-        return new ResponseEntity<>(response, HttpStatus.NO_CONTENT);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_DELETED_COUNTRY, Constants.COUNTRY, deletedCountry),
+                    HttpStatus.NO_CONTENT);
+        });
     }
 
 }
@@ -1,30 +1,39 @@
 package com.teaminternational.assessment.ewch.controller;
 
-import com.teaminternational.assessment.ewch.exception.EmployeeNotAbleToWorkException;
-import com.teaminternational.assessment.ewch.exception.FieldIsNullOrEmptyException;
-import com.teaminternational.assessment.ewch.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teaminternational.assessment.ewch.config.RequestExecutor;
+import com.teaminternational.assessment.ewch.json.DataFormats;
+import com.teaminternational.assessment.ewch.model.dto.BulkResultDto;
+import com.teaminternational.assessment.ewch.model.dto.CursorPageDto;
 import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.model.dto.EmployeePatchDto;
+import com.teaminternational.assessment.ewch.model.dto.ResponseDto;
 import com.teaminternational.assessment.ewch.service.IEmployeeService;
 import com.teaminternational.assessment.ewch.utils.Constants;
+import com.teaminternational.assessment.ewch.utils.ETags;
 import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import com.teaminternational.assessment.ewch.utils.ErrorResponses;
+import com.teaminternational.assessment.ewch.utils.JsonStreams;
 import com.teaminternational.assessment.ewch.utils.Validations;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/employees")
@@ -33,179 +42,255 @@ public class EmployeeController {
     private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeController.class);
 
     private final IEmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final DataFormats dataFormats;
+    private final RequestExecutor requestExecutor;
 
     @Autowired
-    public EmployeeController(IEmployeeService employeeService) {
+    public EmployeeController(IEmployeeService employeeService, ObjectMapper objectMapper, DataFormats dataFormats,
+            RequestExecutor requestExecutor) {
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.dataFormats = dataFormats;
+        this.requestExecutor = requestExecutor;
     }
 
-    @GetMapping(value = "/all", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<EmployeeDto>> findAllEmployees() {
-        LOGGER.info("[EmployeeController]: Getting all employees :: findAllEmployees");
-        List<EmployeeDto> employees = employeeService.findAllEmployees();
-        LOGGER.info("[EmployeeController]: Returning all employees.");
-        return new ResponseEntity<>(employees, HttpStatus.OK);
-    }
-
-    @GetMapping(value = "/page/{page}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Page<EmployeeDto>> findAllEmployees(@PathVariable Integer page) {
-        LOGGER.info("[EmployeeController]: Getting all employees :: findAllEmployeesPageable");
-        Pageable pageable = PageRequest.of(page, 3);
-        Page<EmployeeDto> employees = employeeService.findAllEmployees(pageable);
-        LOGGER.info("[EmployeeController]: Returning all Pageable employees.");
-        return new ResponseEntity<>(employees, HttpStatus.OK);
-    }
-
-    @GetMapping(value = "/", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Page<EmployeeDto>> findAllEmployeesPageable(Pageable pageable) {
-        LOGGER.info("[EmployeeController]: Getting all employees :: findAllEmployeesPageable");
-        Page<EmployeeDto> employees = employeeService.findAllEmployees(pageable);
-        LOGGER.info("[EmployeeController]: Returning all Pageable employees.");
-        return new ResponseEntity<>(employees, HttpStatus.OK);
-    }
-
-    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> findEmployeeById(@PathVariable Long id) {
-        LOGGER.info("[EmployeeController]: Getting employee by id :: findEmployeeById");
-        EmployeeDto employeeDto;
-        Map<String, Object> response = new HashMap<>();
-        try {
-            employeeDto = employeeService.findEmployeeById(id);
-        } catch (ResourceNotFoundException rnfe) {
-            LOGGER.error(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID);
-            response.put(Constants.ERROR, ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID);
-            response.put(Constants.EMPLOYEE, null);
-            return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_GETTING_EMPLOYEE);
-        response.put(Constants.EMPLOYEE, employeeDto);
-        LOGGER.info("[EmployeeController]: Returning employee by id.");
-        return new ResponseEntity<>(response, HttpStatus.OK);
-    }
-
-    @GetMapping(value = "/username/{username}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> findEmployeeByUsername(@PathVariable String username) {
-        LOGGER.info("[EmployeeController]: Getting employee by username :: findEmployeeByUsername");
-        EmployeeDto employeeDto;
-        Map<String, Object> response = new HashMap<>();
-        try {
-            employeeDto = employeeService.findEmployeeByUsername(username);
-        } catch (ResourceNotFoundException rnfe) {
-            LOGGER.error(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_USERNAME.concat(username));
-            response.put(Constants.ERROR, ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_USERNAME.concat(username));
-            response.put(Constants.EMPLOYEE, null);
-            return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_GETTING_EMPLOYEE);
-        response.put(Constants.EMPLOYEE, employeeDto);
-        LOGGER.info("[EmployeeController]: Returning employee by username.");
-        return new ResponseEntity<>(response, HttpStatus.OK);
-    }
-
-    @PostMapping(value = "/", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> createEmployee(@Valid @RequestBody EmployeeDto employeeDto, BindingResult result) {
-        LOGGER.info("[EmployeeController]: Creating new employee :: createEmployee");
-        EmployeeDto newEmployeeDto;
-        Map<String, Object> response = new HashMap<>();
-        if (Validations.checkHasErrors(result, response)) {
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        }
-        try {
-            newEmployeeDto = employeeService.createEmployee(employeeDto);
-        } catch (EmployeeNotAbleToWorkException enae) {
-            LOGGER.error(ErrorMessages.ERROR_EMPLOYEE_NOT_ABLE_TO_WORK);
-            response.put(Constants.ERROR, ErrorMessages.ERROR_EMPLOYEE_NOT_ABLE_TO_WORK);
-            response.put(Constants.EMPLOYEE, employeeDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (FieldIsNullOrEmptyException finoee) {
-            LOGGER.error(ErrorMessages.ERROR_CREATING_EMPLOYEE);
-            response.put(Constants.ERROR, finoee.getMessage());
-            response.put(Constants.EMPLOYEE, employeeDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (DataAccessException dive) {
-            LOGGER.error(ErrorMessages.ERROR_CREATING_EMPLOYEE);
-            response.put(Constants.ERROR, ErrorMessages.ERROR_CREATING_EMPLOYEE);
-            response.put(Constants.EMPLOYEE, employeeDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (Exception e) {
-            LOGGER.error(ErrorMessages.ERROR_CREATING_EMPLOYEE.concat(": ").concat(e.getMessage()).concat(e.getCause().toString()));
-            response.put(Constants.ERROR, ErrorMessages.ERROR_CREATING_EMPLOYEE);
-            response.put(Constants.EMPLOYEE, employeeDto);
-            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_CREATING_EMPLOYEE);
-        response.put(Constants.EMPLOYEE, newEmployeeDto);
-        LOGGER.info("New created employee. [{}]", newEmployeeDto);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
-    }
-
-    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> updateEmployee(@Valid @RequestBody EmployeeDto employeeDto, BindingResult result, @PathVariable Long id) {
-        LOGGER.info("[EmployeeController]: Updating employee :: updateEmployee");
-        EmployeeDto updatedEmployee;
-        Map<String, Object> response = new HashMap<>();
-        if (Validations.checkHasErrors(result, response)) {
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        }
-        try {
-            updatedEmployee = employeeService.updateEmployee(employeeDto, id);
-        } catch (EmployeeNotAbleToWorkException enae) {
-            LOGGER.error(ErrorMessages.ERROR_EMPLOYEE_NOT_ABLE_TO_WORK);
-            response.put(Constants.ERROR, ErrorMessages.ERROR_EMPLOYEE_NOT_ABLE_TO_WORK);
-            response.put(Constants.EMPLOYEE, employeeDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (FieldIsNullOrEmptyException finoee) {
-            LOGGER.error(ErrorMessages.ERROR_UPDATING_EMPLOYEE);
-            response.put(Constants.ERROR, finoee.getMessage());
-            response.put(Constants.EMPLOYEE, employeeDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (DataAccessException dive) {
-            LOGGER.error(ErrorMessages.ERROR_UPDATING_EMPLOYEE);
-            response.put(Constants.ERROR, ErrorMessages.ERROR_UPDATING_EMPLOYEE);
-            response.put(Constants.EMPLOYEE, employeeDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (Exception e) {
-            LOGGER.error(ErrorMessages.ERROR_UPDATING_EMPLOYEE.concat(": ").concat(e.getMessage()).concat(e.getCause().toString()));
-            response.put(Constants.ERROR, ErrorMessages.ERROR_UPDATING_EMPLOYEE);
-            response.put(Constants.EMPLOYEE, employeeDto);
-            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_UPDATING_EMPLOYEE);
-        response.put(Constants.EMPLOYEE, updatedEmployee);
-        LOGGER.info("Updated employee. [{}]", updatedEmployee);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
-    }
-
-    @DeleteMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/all", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<List<EmployeeDto>>> findAllEmployees() {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Getting all employees :: findAllEmployees");
+            List<EmployeeDto> employees = employeeService.findAllEmployees();
+            LOGGER.info("[EmployeeController]: Returning all employees.");
+            return new ResponseEntity<>(employees, HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/all/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        LOGGER.info("[EmployeeController]: Streaming all employees :: streamAllEmployees");
+        MediaType mediaType = dataFormats.negotiate(accept);
+        StreamingResponseBody body = JsonStreams.jsonArray(dataFormats.objectMapper(mediaType), employeeService::streamAllEmployees);
+        return ResponseEntity.ok().contentType(mediaType).body(body);
+    }
+
+    @GetMapping(value = "/all/stream", produces = Constants.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployeesNdjson() {
+        LOGGER.info("[EmployeeController]: Streaming all employees :: streamAllEmployeesNdjson");
+        StreamingResponseBody body = JsonStreams.ndjson(objectMapper, employeeService::streamAllEmployees);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(Constants.APPLICATION_NDJSON_VALUE)).body(body);
+    }
+
+    @GetMapping(value = "/page/{page}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<Page<EmployeeDto>>> findAllEmployees(@PathVariable Integer page) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Getting all employees :: findAllEmployeesPageable");
+            Pageable pageable = PageRequest.of(page, 3);
+            Page<EmployeeDto> employees = employeeService.findAllEmployees(pageable);
+            LOGGER.info("[EmployeeController]: Returning all Pageable employees.");
+            return new ResponseEntity<>(employees, HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<Page<EmployeeDto>>> findAllEmployeesPageable(Pageable pageable) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Getting all employees :: findAllEmployeesPageable");
+            Page<EmployeeDto> employees = employeeService.findAllEmployees(pageable);
+            LOGGER.info("[EmployeeController]: Returning all Pageable employees.");
+            return new ResponseEntity<>(employees, HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/cursor", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<CursorPageDto<EmployeeDto>>> findAllEmployeesCursor(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_CURSOR_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "false") boolean total) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Getting all employees :: findAllEmployeesCursor");
+            CursorPageDto<EmployeeDto> employees = employeeService.findAllEmployees(cursor, size, total);
+            LOGGER.info("[EmployeeController]: Returning cursor page of employees.");
+            return new ResponseEntity<>(employees, HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<Page<EmployeeDto>>> searchEmployees(@RequestParam String q, Pageable pageable) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Searching employees :: searchEmployees");
+            Page<EmployeeDto> employees = employeeService.searchEmployees(q, pageable);
+            LOGGER.info("[EmployeeController]: Returning searched employees.");
+            return new ResponseEntity<>(employees, HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/age", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<Page<EmployeeDto>>> findEmployeesByAge(@RequestParam(defaultValue = "0") int min,
+            @RequestParam(defaultValue = "" + Constants.MAX_AGE) int max, Pageable pageable) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Getting employees by age :: findEmployeesByAge");
+            Page<EmployeeDto> employees = employeeService.findEmployeesByAge(min, max, pageable);
+            LOGGER.info("[EmployeeController]: Returning employees by age.");
+            return new ResponseEntity<>(employees, HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/birthdays", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<List<EmployeeDto>>> findUpcomingBirthdays(
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_UPCOMING_DAYS) int days) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Getting upcoming birthdays :: findUpcomingBirthdays");
+            List<EmployeeDto> employees = employeeService.findUpcomingBirthdays(days);
+            LOGGER.info("[EmployeeController]: Returning upcoming birthdays.");
+            return new ResponseEntity<>(employees, HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/anniversaries", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<List<EmployeeDto>>> findUpcomingHireAnniversaries(
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_UPCOMING_DAYS) int days) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Getting upcoming hire anniversaries :: findUpcomingHireAnniversaries");
+            List<EmployeeDto> employees = employeeService.findUpcomingHireAnniversaries(days);
+            LOGGER.info("[EmployeeController]: Returning upcoming hire anniversaries.");
+            return new ResponseEntity<>(employees, HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<EmployeeDto>>> findEmployeeById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Getting employee by id :: findEmployeeById");
+            if (ifNoneMatch != null) {
+                Optional<String> etag = employeeService.lookupEmployeeETag(id);
+                if (etag.isPresent() && ETags.matches(ifNoneMatch, etag.get())) {
+                    return ETags.notModified(etag.get());
+                }
+            }
+            long referenceVersion = employeeService.findEmployeeReferenceVersion();
+            Optional<EmployeeDto> employeeDto = employeeService.lookupEmployeeById(id);
+            if (!employeeDto.isPresent()) {
+                LOGGER.error(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID);
+                return ErrorResponses.employeeNotFound();
+            }
+            LOGGER.info("[EmployeeController]: Returning employee by id.");
+            String etag = ETags.of(id, employeeDto.get().getVersion(), referenceVersion);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_GETTING_EMPLOYEE, Constants.EMPLOYEE, employeeDto.get()),
+                    ETags.headers(etag), HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/username/{username}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<EmployeeDto>>> findEmployeeByUsername(@PathVariable String username) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Getting employee by username :: findEmployeeByUsername");
+            Optional<EmployeeDto> employeeDto = employeeService.lookupEmployeeByUsername(username);
+            if (!employeeDto.isPresent()) {
+                LOGGER.error(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_USERNAME.concat(username));
+                return ErrorResponses.notFound(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_USERNAME, Constants.EMPLOYEE, username);
+            }
+            LOGGER.info("[EmployeeController]: Returning employee by username.");
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_GETTING_EMPLOYEE, Constants.EMPLOYEE, employeeDto.get()),
+                    HttpStatus.OK);
+        });
+    }
+
+    @PostMapping(value = "/", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<EmployeeDto>>> createEmployee(@Valid @RequestBody EmployeeDto employeeDto, BindingResult result) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Creating new employee :: createEmployee");
+            if (result.hasErrors()) {
+                return new ResponseEntity<>(Validations.fieldErrors(result), HttpStatus.BAD_REQUEST);
+            }
+            EmployeeDto newEmployeeDto = employeeService.createEmployee(employeeDto);
+            LOGGER.info("New created employee. [{}]", newEmployeeDto);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_CREATING_EMPLOYEE, Constants.EMPLOYEE, newEmployeeDto),
+                    HttpStatus.CREATED);
+        });
+    }
+
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<BulkResultDto>>> bulkSaveEmployees(@RequestBody List<EmployeeDto> employeeDtos) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Saving employees in bulk :: bulkSaveEmployees");
+            if (employeeDtos.isEmpty()) {
+                return new ResponseEntity<>(ResponseDto.error(ErrorMessages.BULK_EMPTY), HttpStatus.BAD_REQUEST);
+            }
+            if (employeeDtos.size() > Constants.MAX_BULK_SIZE) {
+                return new ResponseEntity<>(ResponseDto.error(ErrorMessages.BULK_SIZE_EXCEEDED),
+                        HttpStatus.BAD_REQUEST);
+            }
+            BulkResultDto result = employeeService.bulkSaveEmployees(employeeDtos);
+            if (result.getFailed() > 0) {
+                LOGGER.info("[EmployeeController]: Saved employees in bulk with errors.");
+                return new ResponseEntity<>(ResponseDto.error(ErrorMessages.ERROR_SAVING_EMPLOYEES, Constants.BULK_RESULT, result),
+                        HttpStatus.MULTI_STATUS);
+            }
+            LOGGER.info("[EmployeeController]: Saved employees in bulk.");
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_SAVING_EMPLOYEES, Constants.BULK_RESULT, result),
+                    HttpStatus.CREATED);
+        });
+    }
+
+    @PutMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<EmployeeDto>>> updateEmployee(@Valid @RequestBody EmployeeDto employeeDto, BindingResult result, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Updating employee :: updateEmployee");
+            if (result.hasErrors()) {
+                return new ResponseEntity<>(Validations.fieldErrors(result), HttpStatus.BAD_REQUEST);
+            }
+            EmployeeDto updatedEmployee = employeeService.updateEmployee(employeeDto, id, ETags.versionFromIfMatch(ifMatch, id));
+            LOGGER.info("Updated employee. [{}]", updatedEmployee);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_UPDATING_EMPLOYEE, Constants.EMPLOYEE, updatedEmployee),
+                    HttpStatus.CREATED);
+        });
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<Void>>> patchEmployee(@RequestBody EmployeePatchDto employeePatchDto, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Patching employee :: patchEmployee");
+            employeeService.patchEmployee(employeePatchDto, id, ETags.versionFromIfMatch(ifMatch, id));
+            LOGGER.info("[EmployeeController]: Patched employee. [{}]", id);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_UPDATING_EMPLOYEE), HttpStatus.OK);
+        });
+    }
+
+    @PostMapping(value = "/bulk-delete", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<Integer>>> bulkDeleteEmployees(@RequestBody Set<Long> ids) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Deleting employees in bulk :: bulkDeleteEmployees");
+            if (ids.isEmpty()) {
+                return new ResponseEntity<>(ResponseDto.error(ErrorMessages.BULK_EMPTY), HttpStatus.BAD_REQUEST);
+            }
+            if (ids.size() > Constants.MAX_BULK_SIZE) {
+                return new ResponseEntity<>(ResponseDto.error(ErrorMessages.BULK_SIZE_EXCEEDED),
+                        HttpStatus.BAD_REQUEST);
+            }
+            int deleted = employeeService.deleteEmployees(ids);
+            LOGGER.info("[EmployeeController]: Deleted employees in bulk. [{}]", deleted);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_DELETED_EMPLOYEES, Constants.DELETED, deleted),
+                    HttpStatus.OK);
+        });
+    }
+
+    @DeleteMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public ResponseEntity<Map<String, Object>> deleteEmployee(@PathVariable Long id) {
-        LOGGER.info("[EmployeeController]: Deleting employee :: deleteEmployee");
-        EmployeeDto currentEmployeeDto;
-        EmployeeDto deletedEmployee;
-        Map<String, Object> response = new HashMap<>();
-        try {
-            currentEmployeeDto = employeeService.findEmployeeById(id);
-            deletedEmployee = employeeService.deleteEmployee(currentEmployeeDto.getId());
-            response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_DELETED_EMPLOYEE);
-            response.put(Constants.EMPLOYEE, deletedEmployee);
-            LOGGER.info("Deleted employee. [{}]", currentEmployeeDto);
-        } catch (ResourceNotFoundException nfe) {
-            LOGGER.error(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID.concat(id.toString()));
-            response.put(Constants.ERROR, ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID.concat(id.toString()));
-            response.put(Constants.EMPLOYEE, null);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (DataAccessException dae) {
-            LOGGER.error(ErrorMessages.ERROR_DELETING_EMPLOYEE);
-            response.put(Constants.ERROR, ErrorMessages.ERROR_DELETING_EMPLOYEE);
-            response.put(Constants.EMPLOYEE, null);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (Exception e) {
-            response.put(Constants.ERROR, ErrorMessages.ERROR_DELETING_EMPLOYEE.concat(": ").concat(e.getMessage()).concat(e.getCause().toString()));
-            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_DELETED_EMPLOYEE);
-        response.put(Constants.EMPLOYEE, currentEmployeeDto);
-        return new ResponseEntity<>(response, HttpStatus.NO_CONTENT);
+    public CompletableFuture<ResponseEntity<ResponseDto<Integer>>> deleteEmployee(@PathVariable Long id) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeController]: Deleting employee :: deleteEmployee");
+            int deleted = employeeService.deleteEmployee(id);
+            if (deleted == 0) {
+                LOGGER.error(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID.concat(id.toString()));
+                return new ResponseEntity<>(ResponseDto.error(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID.concat(id.toString()), Constants.EMPLOYEE),
+                        HttpStatus.BAD_REQUEST);
+            }
+            LOGGER.info("Deleted employee. [{}]", id);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_DELETED_EMPLOYEE, Constants.DELETED, deleted),
+                    HttpStatus.NO_CONTENT);
+        });
     }
 
 }
@@ -0,0 +1,75 @@
+package com.teaminternational.assessment.ewch.controller;
+
+import com.teaminternational.assessment.ewch.config.RequestExecutor;
+import com.teaminternational.assessment.ewch.model.dto.GroupStatisticsDto;
+import com.teaminternational.assessment.ewch.service.IEmployeeStatisticsService;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/v1/stats")
+public class EmployeeStatisticsController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeStatisticsController.class);
+
+    private final IEmployeeStatisticsService employeeStatisticsService;
+    private final RequestExecutor requestExecutor;
+
+    @Autowired
+    public EmployeeStatisticsController(IEmployeeStatisticsService employeeStatisticsService, RequestExecutor requestExecutor) {
+        this.employeeStatisticsService = employeeStatisticsService;
+        this.requestExecutor = requestExecutor;
+    }
+
+    @GetMapping(value = "/", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<Map<String, List<GroupStatisticsDto>>>> findAllStatistics() {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeStatisticsController]: Getting all employee statistics :: findAllStatistics");
+            return new ResponseEntity<>(employeeStatisticsService.findAllStatistics(), HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/areas", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<List<GroupStatisticsDto>>> findAreaStatistics() {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeStatisticsController]: Getting employee statistics by area :: findAreaStatistics");
+            return new ResponseEntity<>(employeeStatisticsService.findAreaStatistics(), HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/jobTitles", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<List<GroupStatisticsDto>>> findJobTitleStatistics() {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeStatisticsController]: Getting employee statistics by job title :: findJobTitleStatistics");
+            return new ResponseEntity<>(employeeStatisticsService.findJobTitleStatistics(), HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/countries", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<List<GroupStatisticsDto>>> findCountryStatistics() {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeStatisticsController]: Getting employee statistics by country :: findCountryStatistics");
+            return new ResponseEntity<>(employeeStatisticsService.findCountryStatistics(), HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "/status", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<List<GroupStatisticsDto>>> findStatusStatistics() {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[EmployeeStatisticsController]: Getting employee statistics by status :: findStatusStatistics");
+            return new ResponseEntity<>(employeeStatisticsService.findStatusStatistics(), HttpStatus.OK);
+        });
+    }
+}
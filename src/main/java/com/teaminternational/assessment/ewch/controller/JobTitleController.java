@@ -1,29 +1,36 @@
 package com.teaminternational.assessment.ewch.controller;
 
-import com.teaminternational.assessment.ewch.exception.FieldIsNullOrEmptyException;
-import com.teaminternational.assessment.ewch.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teaminternational.assessment.ewch.config.RequestExecutor;
+import com.teaminternational.assessment.ewch.json.DataFormats;
+import com.teaminternational.assessment.ewch.model.dto.CursorPageDto;
 import com.teaminternational.assessment.ewch.model.dto.JobTitleDto;
+import com.teaminternational.assessment.ewch.model.dto.ResponseDto;
 import com.teaminternational.assessment.ewch.service.IJobTitleService;
 import com.teaminternational.assessment.ewch.utils.Constants;
+import com.teaminternational.assessment.ewch.utils.ETags;
 import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import com.teaminternational.assessment.ewch.utils.ErrorResponses;
+import com.teaminternational.assessment.ewch.utils.JsonStreams;
 import com.teaminternational.assessment.ewch.utils.Validations;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/jobTitles")
@@ -32,168 +39,185 @@ public class JobTitleController {
     private static final Logger LOGGER = LoggerFactory.getLogger(JobTitleController.class);
 
     private final IJobTitleService jobTitleService;
+    private final ObjectMapper objectMapper;
+    private final DataFormats dataFormats;
+    private final RequestExecutor requestExecutor;
 
     @Autowired
-    public JobTitleController(IJobTitleService jobTitleService) {
+    public JobTitleController(IJobTitleService jobTitleService, ObjectMapper objectMapper, DataFormats dataFormats,
+            RequestExecutor requestExecutor) {
         this.jobTitleService = jobTitleService;
+        this.objectMapper = objectMapper;
+        this.dataFormats = dataFormats;
+        this.requestExecutor = requestExecutor;
     }
 
-    @GetMapping(value = "/all", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<JobTitleDto>> findAllJobTitles() {
-        LOGGER.info("[JobTitleController]: Getting all jobTitles :: findAllJobTitles");
-        List<JobTitleDto> jobTitles = jobTitleService.findAllJobTitles();
-        LOGGER.info("[JobTitleController]: Returning all jobTitles.");
-        return new ResponseEntity<>(jobTitles, HttpStatus.OK);
+    @GetMapping(value = "/all", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<List<JobTitleDto>>> findAllJobTitles(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[JobTitleController]: Getting all jobTitles :: findAllJobTitles");
+            String etag = jobTitleService.findAllJobTitlesETag();
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ETags.notModified(etag);
+            }
+            List<JobTitleDto> jobTitles = jobTitleService.findAllJobTitles();
+            LOGGER.info("[JobTitleController]: Returning all jobTitles.");
+            return new ResponseEntity<>(jobTitles, ETags.headers(etag), HttpStatus.OK);
+        });
     }
 
-    @GetMapping(value = "/page/{page}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Page<JobTitleDto>> findAllJobTitles(@PathVariable Integer page) {
-        LOGGER.info("[JobTitleController]: Getting all jobTitles :: findAllJobTitlesPageable");
-        Pageable pageable = PageRequest.of(page, 3);
-        Page<JobTitleDto> jobTitles = jobTitleService.findAllJobTitles(pageable);
-        LOGGER.info("[JobTitleController]: Returning all Pageable jobTitles.");
-        return new ResponseEntity<>(jobTitles, HttpStatus.OK);
+    @GetMapping(value = "/all/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamAllJobTitles(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        LOGGER.info("[JobTitleController]: Streaming all jobTitles :: streamAllJobTitles");
+        MediaType mediaType = dataFormats.negotiate(accept);
+        StreamingResponseBody body = JsonStreams.jsonArray(dataFormats.objectMapper(mediaType), jobTitleService::streamAllJobTitles);
+        return ResponseEntity.ok().contentType(mediaType).body(body);
     }
 
-    @GetMapping(value = "/", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Page<JobTitleDto>> findAllJobTitlesPageable(Pageable pageable) {
-        LOGGER.info("[JobTitleController]: Getting all jobTitles :: findAllJobTitlesPageable");
-        Page<JobTitleDto> jobTitles = jobTitleService.findAllJobTitles(pageable);
-        LOGGER.info("[JobTitleController]: Returning all Pageable jobTitles.");
-        return new ResponseEntity<>(jobTitles, HttpStatus.OK);
+    @GetMapping(value = "/all/stream", produces = Constants.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllJobTitlesNdjson() {
+        LOGGER.info("[JobTitleController]: Streaming all jobTitles :: streamAllJobTitlesNdjson");
+        StreamingResponseBody body = JsonStreams.ndjson(objectMapper, jobTitleService::streamAllJobTitles);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(Constants.APPLICATION_NDJSON_VALUE)).body(body);
     }
 
-    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> findJobTitleById(@PathVariable Long id) {
-        LOGGER.info("[JobTitleController]: Getting jobTitle by id :: findJobTitleById");
-        JobTitleDto jobTitleDto;
-        Map<String, Object> response = new HashMap<>();
-        try {
-            jobTitleDto = jobTitleService.findJobTitleById(id);
-        } catch (ResourceNotFoundException rnfe) {
-            LOGGER.error(ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_ID);
-            response.put(Constants.ERROR, ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_ID);
-            response.put(Constants.JOB_TITLE, null);
-            return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_GETTING_JOB_TITLE);
-        response.put(Constants.JOB_TITLE, jobTitleDto);
-        LOGGER.info("[JobTitleController]: Returning jobTitle by id.");
-        return new ResponseEntity<>(response, HttpStatus.OK);
+    @GetMapping(value = "/page/{page}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<Page<JobTitleDto>>> findAllJobTitles(@PathVariable Integer page,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[JobTitleController]: Getting all jobTitles :: findAllJobTitlesPageable");
+            String etag = jobTitleService.findAllJobTitlesETag();
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ETags.notModified(etag);
+            }
+            Pageable pageable = PageRequest.of(page, 3);
+            Page<JobTitleDto> jobTitles = jobTitleService.findAllJobTitles(pageable);
+            LOGGER.info("[JobTitleController]: Returning all Pageable jobTitles.");
+            return new ResponseEntity<>(jobTitles, ETags.headers(etag), HttpStatus.OK);
+        });
     }
 
-    @GetMapping(value = "/name/{name}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> findJobTitleByName(@PathVariable String name) {
-        LOGGER.info("[JobTitleController]: Getting jobTitle by username :: findJobTitleByUsername");
-        JobTitleDto jobTitleDto;
-        Map<String, Object> response = new HashMap<>();
-        try {
-            jobTitleDto = jobTitleService.findJobTitleByName(name);
-        } catch (ResourceNotFoundException rnfe) {
-            LOGGER.error(ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_USERNAME.concat(name));
-            response.put(Constants.ERROR, ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_USERNAME.concat(name));
-            response.put(Constants.JOB_TITLE, null);
-            return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_GETTING_JOB_TITLE);
-        response.put(Constants.JOB_TITLE, jobTitleDto);
-        LOGGER.info("[JobTitleController]: Returning jobTitle by username.");
-        return new ResponseEntity<>(response, HttpStatus.OK);
+    @GetMapping(value = "/", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<Page<JobTitleDto>>> findAllJobTitlesPageable(Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[JobTitleController]: Getting all jobTitles :: findAllJobTitlesPageable");
+            String etag = jobTitleService.findAllJobTitlesETag();
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ETags.notModified(etag);
+            }
+            Page<JobTitleDto> jobTitles = jobTitleService.findAllJobTitles(pageable);
+            LOGGER.info("[JobTitleController]: Returning all Pageable jobTitles.");
+            return new ResponseEntity<>(jobTitles, ETags.headers(etag), HttpStatus.OK);
+        });
     }
 
-    @PostMapping(value = "/", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> createJobTitle(@Valid @RequestBody JobTitleDto jobTitleDto, BindingResult result) {
-        LOGGER.info("[JobTitleController]: Creating new jobTitle :: createJobTitle");
-        JobTitleDto newJobTitleDto;
-        Map<String, Object> response = new HashMap<>();
-        if (Validations.checkHasErrors(result, response)) {
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        }
-        try {
-            newJobTitleDto = jobTitleService.createJobTitle(jobTitleDto);
-        } catch (FieldIsNullOrEmptyException finoee) {
-            LOGGER.error(ErrorMessages.ERROR_CREATING_JOB_TITLE);
-            response.put(Constants.ERROR, finoee.getMessage());
-            response.put(Constants.JOB_TITLE, jobTitleDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (DataAccessException dive) {
-            LOGGER.error(ErrorMessages.ERROR_CREATING_JOB_TITLE);
-            response.put(Constants.ERROR, ErrorMessages.ERROR_CREATING_JOB_TITLE);
-            response.put(Constants.JOB_TITLE, jobTitleDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (Exception e) {
-            LOGGER.error(ErrorMessages.ERROR_CREATING_JOB_TITLE.concat(": ").concat(e.getMessage()).concat(e.getCause().toString()));
-            response.put(Constants.ERROR, ErrorMessages.ERROR_CREATING_JOB_TITLE);
-            response.put(Constants.JOB_TITLE, jobTitleDto);
-            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_CREATING_JOB_TITLE);
-        response.put(Constants.JOB_TITLE, newJobTitleDto);
-        LOGGER.info("New created jobTitle. [{}]", newJobTitleDto);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    @GetMapping(value = "/cursor", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<CursorPageDto<JobTitleDto>>> findAllJobTitlesCursor(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_CURSOR_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "false") boolean total, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[JobTitleController]: Getting all jobTitles :: findAllJobTitlesCursor");
+            String etag = jobTitleService.findAllJobTitlesETag();
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ETags.notModified(etag);
+            }
+            CursorPageDto<JobTitleDto> jobTitles = jobTitleService.findAllJobTitles(cursor, size, total);
+            LOGGER.info("[JobTitleController]: Returning cursor page of jobTitles.");
+            return new ResponseEntity<>(jobTitles, ETags.headers(etag), HttpStatus.OK);
+        });
     }
 
-    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> updateJobTitle(@Valid @RequestBody JobTitleDto jobTitleDto, BindingResult result, @PathVariable Long id) {
-        LOGGER.info("[JobTitleController]: Updating jobTitle :: updateJobTitle");
-        JobTitleDto updatedJobTitle;
-        Map<String, Object> response = new HashMap<>();
-        if (Validations.checkHasErrors(result, response)) {
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        }
-        try {
-            updatedJobTitle = jobTitleService.updateJobTitle(jobTitleDto, id);
-        } catch (FieldIsNullOrEmptyException finoee) {
-            LOGGER.error(ErrorMessages.ERROR_UPDATING_JOB_TITLE);
-            response.put(Constants.ERROR, finoee.getMessage());
-            response.put(Constants.JOB_TITLE, jobTitleDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (DataAccessException dive) {
-            LOGGER.error(ErrorMessages.ERROR_UPDATING_JOB_TITLE);
-            response.put(Constants.ERROR, ErrorMessages.ERROR_UPDATING_JOB_TITLE);
-            response.put(Constants.JOB_TITLE, jobTitleDto);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (Exception e) {
-            LOGGER.error(ErrorMessages.ERROR_UPDATING_JOB_TITLE.concat(": ").concat(e.getMessage()).concat(e.getCause().toString()));
-            response.put(Constants.ERROR, ErrorMessages.ERROR_UPDATING_JOB_TITLE);
-            response.put(Constants.JOB_TITLE, jobTitleDto);
-            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_UPDATING_JOB_TITLE);
-        response.put(Constants.JOB_TITLE, updatedJobTitle);
-        LOGGER.info("Updated jobTitle. [{}]", updatedJobTitle);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<JobTitleDto>>> findJobTitleById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[JobTitleController]: Getting jobTitle by id :: findJobTitleById");
+            Optional<String> etag = jobTitleService.lookupJobTitleETag(id);
+            if (etag.isPresent() && ETags.matches(ifNoneMatch, etag.get())) {
+                return ETags.notModified(etag.get());
+            }
+            Optional<JobTitleDto> jobTitleDto = etag.isPresent() ? jobTitleService.lookupJobTitleById(id) : Optional.empty();
+            if (!jobTitleDto.isPresent()) {
+                LOGGER.error(ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_ID);
+                return ErrorResponses.jobTitleNotFound();
+            }
+            LOGGER.info("[JobTitleController]: Returning jobTitle by id.");
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_GETTING_JOB_TITLE, Constants.JOB_TITLE, jobTitleDto.get()),
+                    ETags.headers(etag.get()), HttpStatus.OK);
+        });
     }
 
-    @DeleteMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/name/{name}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<JobTitleDto>>> findJobTitleByName(@PathVariable String name,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[JobTitleController]: Getting jobTitle by username :: findJobTitleByUsername");
+            String etag = jobTitleService.findAllJobTitlesETag();
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ETags.notModified(etag);
+            }
+            Optional<JobTitleDto> jobTitleDto = jobTitleService.lookupJobTitleByName(name);
+            if (!jobTitleDto.isPresent()) {
+                LOGGER.error(ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_USERNAME.concat(name));
+                return ErrorResponses.notFound(ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_USERNAME, Constants.JOB_TITLE, name);
+            }
+            LOGGER.info("[JobTitleController]: Returning jobTitle by username.");
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_GETTING_JOB_TITLE, Constants.JOB_TITLE, jobTitleDto.get()),
+                    ETags.headers(etag), HttpStatus.OK);
+        });
+    }
+
+    @PostMapping(value = "/", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<JobTitleDto>>> createJobTitle(@Valid @RequestBody JobTitleDto jobTitleDto, BindingResult result) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[JobTitleController]: Creating new jobTitle :: createJobTitle");
+            if (result.hasErrors()) {
+                return new ResponseEntity<>(Validations.fieldErrors(result), HttpStatus.BAD_REQUEST);
+            }
+            JobTitleDto newJobTitleDto = jobTitleService.createJobTitle(jobTitleDto);
+            LOGGER.info("New created jobTitle. [{}]", newJobTitleDto);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_CREATING_JOB_TITLE, Constants.JOB_TITLE, newJobTitleDto),
+                    HttpStatus.CREATED);
+        });
+    }
+
+    @PutMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<JobTitleDto>>> updateJobTitle(@Valid @RequestBody JobTitleDto jobTitleDto, BindingResult result, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[JobTitleController]: Updating jobTitle :: updateJobTitle");
+            if (result.hasErrors()) {
+                return new ResponseEntity<>(Validations.fieldErrors(result), HttpStatus.BAD_REQUEST);
+            }
+            JobTitleDto updatedJobTitle = jobTitleService.updateJobTitle(jobTitleDto, id, ETags.versionFromIfMatch(ifMatch, id));
+            LOGGER.info("Updated jobTitle. [{}]", updatedJobTitle);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_UPDATING_JOB_TITLE, Constants.JOB_TITLE, updatedJobTitle),
+                    HttpStatus.CREATED);
+        });
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<ResponseDto<Void>>> patchJobTitle(@RequestBody JobTitleDto jobTitleDto, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[JobTitleController]: Patching jobTitle :: patchJobTitle");
+            jobTitleService.patchJobTitle(jobTitleDto, id, ETags.versionFromIfMatch(ifMatch, id));
+            LOGGER.info("[JobTitleController]: Patched jobTitle. [{}]", id);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_UPDATING_JOB_TITLE), HttpStatus.OK);
+        });
+    }
+
+    @DeleteMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Constants.APPLICATION_SMILE_VALUE})
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public ResponseEntity<Map<String, Object>> deleteJobTitle(@PathVariable Long id) {
-        LOGGER.info("[JobTitleController]: Deleting jobTitle :: deleteJobTitle");
-        JobTitleDto currentJobTitleDto;
-        JobTitleDto deletedJobTitle;
-        Map<String, Object> response = new HashMap<>();
-        try {
-            currentJobTitleDto = jobTitleService.findJobTitleById(id);
-            deletedJobTitle = jobTitleService.deleteJobTitle(currentJobTitleDto.getId());
-            response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_DELETED_JOB_TITLE);
-            response.put(Constants.JOB_TITLE, deletedJobTitle);
+    public CompletableFuture<ResponseEntity<ResponseDto<JobTitleDto>>> deleteJobTitle(@PathVariable Long id) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[JobTitleController]: Deleting jobTitle :: deleteJobTitle");
+            JobTitleDto currentJobTitleDto = jobTitleService.findJobTitleById(id);
+            JobTitleDto deletedJobTitle = jobTitleService.deleteJobTitle(currentJobTitleDto.getId());
             LOGGER.info("Deleted jobTitle. [{}]", currentJobTitleDto);
-        } catch (ResourceNotFoundException nfe) {
-            LOGGER.error(ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_ID.concat(id.toString()));
-            response.put(Constants.ERROR, ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_ID.concat(id.toString()));
-            response.put(Constants.JOB_TITLE, null);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (DataAccessException dae) {
-            LOGGER.error(ErrorMessages.ERROR_DELETING_JOB_TITLE);
-            response.put(Constants.ERROR, ErrorMessages.ERROR_DELETING_JOB_TITLE);
-            response.put(Constants.JOB_TITLE, null);
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        } catch (Exception e) {
-            response.put(Constants.ERROR, ErrorMessages.ERROR_DELETING_JOB_TITLE.concat(": ").concat(e.getMessage()).concat(e.getCause().toString()));
-            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-        response.put(Constants.MESSAGE, ErrorMessages.SUCCESS_DELETED_JOB_TITLE);
-        response.put(Constants.JOB_TITLE, currentJobTitleDto);
-        return new ResponseEntity<>(response, HttpStatus.NO_CONTENT);
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_DELETED_JOB_TITLE, Constants.JOB_TITLE, currentJobTitleDto),
+                    HttpStatus.NO_CONTENT);
+        });
     }
 }
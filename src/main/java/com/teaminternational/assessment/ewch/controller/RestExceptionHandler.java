@@ -0,0 +1,78 @@
+package com.teaminternational.assessment.ewch.controller;
+
+import com.teaminternational.assessment.ewch.exception.EmployeeNotAbleToWorkException;
+import com.teaminternational.assessment.ewch.exception.FieldIsNullOrEmptyException;
+import com.teaminternational.assessment.ewch.exception.InvalidArgumentException;
+import com.teaminternational.assessment.ewch.exception.InvalidCursorException;
+import com.teaminternational.assessment.ewch.exception.PreconditionFailedException;
+import com.teaminternational.assessment.ewch.exception.ResourceNotFoundException;
+import com.teaminternational.assessment.ewch.model.dto.ResponseDto;
+import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import com.teaminternational.assessment.ewch.utils.ErrorResponses;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * The one place domain and data access exceptions become responses: controllers let them through and this answers
+ * with {@code {"error": "..."}}, written straight away instead of being forwarded to the servlet error page. Bodies
+ * that never vary are shared. Lookups report misses without throwing, so this is the write and reporting path.
+ */
+@RestControllerAdvice
+public class RestExceptionHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RestExceptionHandler.class);
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ResponseDto<Object>> handleResourceNotFound(ResourceNotFoundException e) {
+        LOGGER.error("[RestExceptionHandler]: {} :: handleResourceNotFound", e.getMessage());
+        return new ResponseEntity<>(ResponseDto.error(e.getMessage()), HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(FieldIsNullOrEmptyException.class)
+    public ResponseEntity<ResponseDto<Object>> handleFieldIsNullOrEmpty(FieldIsNullOrEmptyException e) {
+        LOGGER.error("[RestExceptionHandler]: {} :: handleFieldIsNullOrEmpty", e.getMessage());
+        return new ResponseEntity<>(ResponseDto.error(e.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidArgumentException.class)
+    public ResponseEntity<ResponseDto<Object>> handleInvalidArgument(InvalidArgumentException e) {
+        LOGGER.error("[RestExceptionHandler]: {} :: handleInvalidArgument", e.getMessage());
+        return new ResponseEntity<>(ResponseDto.error(e.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(EmployeeNotAbleToWorkException.class)
+    public ResponseEntity<ResponseDto<Object>> handleEmployeeNotAbleToWork() {
+        LOGGER.error("[RestExceptionHandler]: {} :: handleEmployeeNotAbleToWork", ErrorMessages.ERROR_EMPLOYEE_NOT_ABLE_TO_WORK);
+        return ErrorResponses.employeeNotAbleToWork();
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ResponseDto<Object>> handleInvalidCursor(InvalidCursorException e) {
+        LOGGER.error("[RestExceptionHandler]: {} :: handleInvalidCursor", e.getMessage());
+        return new ResponseEntity<>(ResponseDto.error(e.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * A stale If-Match, or a version that moved between the check and the write.
+     */
+    @ExceptionHandler({PreconditionFailedException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ResponseDto<Object>> handlePreconditionFailed() {
+        LOGGER.error("[RestExceptionHandler]: {} :: handlePreconditionFailed", ErrorMessages.PRECONDITION_FAILED);
+        return ErrorResponses.preconditionFailed();
+    }
+
+    /**
+     * Constraint violations such as a duplicated username or code, or a delete of a row still referenced.
+     */
+    @ExceptionHandler(DataAccessException.class)
+    public ResponseEntity<ResponseDto<Object>> handleDataAccess(DataAccessException e) {
+        LOGGER.error("[RestExceptionHandler]: {} :: handleDataAccess", e.getMostSpecificCause().getMessage());
+        return ErrorResponses.dataConflict();
+    }
+}
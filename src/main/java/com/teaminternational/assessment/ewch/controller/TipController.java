@@ -0,0 +1,54 @@
+package com.teaminternational.assessment.ewch.controller;
+
+import com.teaminternational.assessment.ewch.config.RequestExecutor;
+import com.teaminternational.assessment.ewch.model.dto.AreaTipDistributionDto;
+import com.teaminternational.assessment.ewch.model.dto.ResponseDto;
+import com.teaminternational.assessment.ewch.service.ITipDistributionService;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/v1/tips")
+public class TipController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TipController.class);
+
+    private final ITipDistributionService tipDistributionService;
+    private final RequestExecutor requestExecutor;
+
+    @Autowired
+    public TipController(ITipDistributionService tipDistributionService, RequestExecutor requestExecutor) {
+        this.tipDistributionService = tipDistributionService;
+        this.requestExecutor = requestExecutor;
+    }
+
+    /**
+     * Takes the pool of each area as {@code {"<areaId>": <amount>}} and splits it across the area's active employees
+     * by tip rate.
+     */
+    @PostMapping(value = "/distribute", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<ResponseDto<List<AreaTipDistributionDto>>>> distributeTips(@RequestBody Map<Long, BigDecimal> pools) {
+        return requestExecutor.supply(() -> {
+            LOGGER.info("[TipController]: Distributing tips :: distributeTips");
+            List<AreaTipDistributionDto> distribution = tipDistributionService.distributeTips(pools);
+            LOGGER.info("[TipController]: Returning tip distribution.");
+            return new ResponseEntity<>(ResponseDto.of(ErrorMessages.SUCCESS_DISTRIBUTING_TIPS, Constants.TIP_DISTRIBUTION, distribution),
+                    HttpStatus.OK);
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.teaminternational.assessment.ewch.event;
+
+import org.hibernate.Hibernate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts writes per entity type, so list endpoints can build an ETag without reading the collection.
+ * The counter moves after commit: a tag taken before reading can then never describe newer data.
+ * Counters live in this JVM and start from zero on every start, which holds because the embedded database belongs
+ * to one instance. Several instances sharing a database would not see each other's writes here and would need
+ * versions read from the database instead.
+ */
+public class CollectionVersionListener {
+
+    private static final Map<Class<?>, AtomicLong> VERSIONS = new ConcurrentHashMap<>();
+
+    public static long version(Class<?> entityType) {
+        AtomicLong version = VERSIONS.get(entityType);
+        return version == null ? 0L : version.get();
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void entityChanged(Object entity) {
+        changed(Hibernate.getClass(entity));
+    }
+
+    /**
+     * Counts a write that bypassed the entity listeners, such as a bulk update.
+     */
+    public static void changed(Class<?> entityType) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(entityType);
+                }
+            });
+        } else {
+            increment(entityType);
+        }
+    }
+
+    private static void increment(Class<?> entityType) {
+        VERSIONS.computeIfAbsent(entityType, type -> new AtomicLong()).incrementAndGet();
+    }
+}
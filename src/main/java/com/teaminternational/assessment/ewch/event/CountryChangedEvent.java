@@ -0,0 +1,23 @@
+package com.teaminternational.assessment.ewch.event;
+
+import com.teaminternational.assessment.ewch.model.dto.CountryDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the country service on every write. {@code country} is the stored state after the
+ * change, or {@code null} when the country was deleted.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CountryChangedEvent {
+
+    private final Long id;
+    private final CountryDto country;
+
+    public boolean isDeleted() {
+        return country == null;
+    }
+}
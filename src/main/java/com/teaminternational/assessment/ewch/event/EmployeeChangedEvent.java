@@ -0,0 +1,38 @@
+package com.teaminternational.assessment.ewch.event;
+
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.model.dto.EmployeePatchDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the employee service on every write. {@code employee} is the stored state after the
+ * change, or {@code null} when the employee was deleted. A PATCH is not read back, so it carries the
+ * supplied fields in {@code patch} instead and listeners apply them to their own copy.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class EmployeeChangedEvent {
+
+    private final Long id;
+    private final EmployeeDto employee;
+    private final EmployeePatchDto patch;
+
+    public EmployeeChangedEvent(Long id, EmployeeDto employee) {
+        this(id, employee, null);
+    }
+
+    public static EmployeeChangedEvent patched(Long id, EmployeePatchDto patch) {
+        return new EmployeeChangedEvent(id, null, patch);
+    }
+
+    public boolean isDeleted() {
+        return employee == null && patch == null;
+    }
+
+    public boolean isPatch() {
+        return patch != null;
+    }
+}
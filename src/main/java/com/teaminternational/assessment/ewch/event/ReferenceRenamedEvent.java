@@ -0,0 +1,20 @@
+package com.teaminternational.assessment.ewch.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the area and job title services when a write sets the name of an area or job title. {@code type}
+ * is the entity class and {@code name} the stored name after the change. Countries report renames through
+ * {@link CountryChangedEvent}.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ReferenceRenamedEvent {
+
+    private final Class<?> type;
+    private final Long id;
+    private final String name;
+}
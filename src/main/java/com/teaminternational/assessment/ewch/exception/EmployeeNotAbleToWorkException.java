@@ -3,14 +3,17 @@ package com.teaminternational.assessment.ewch.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * An employee too young to be hired. Stackless, like {@link FieldIsNullOrEmptyException}.
+ */
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class EmployeeNotAbleToWorkException extends RuntimeException {
 
     public EmployeeNotAbleToWorkException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public EmployeeNotAbleToWorkException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
@@ -3,14 +3,17 @@ package com.teaminternational.assessment.ewch.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * A required field sent blank. Stackless, as it reports bad input and the message says all there is to say.
+ */
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class FieldIsNullOrEmptyException extends RuntimeException {
 
     public FieldIsNullOrEmptyException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public FieldIsNullOrEmptyException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
@@ -0,0 +1,19 @@
+package com.teaminternational.assessment.ewch.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * A value that is present but out of range, such as a negative amount. Stackless, like the other bad input.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidArgumentException extends RuntimeException {
+
+    public InvalidArgumentException(String message) {
+        super(message, null, false, false);
+    }
+
+    public InvalidArgumentException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
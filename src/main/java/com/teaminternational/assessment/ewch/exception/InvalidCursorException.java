@@ -0,0 +1,19 @@
+package com.teaminternational.assessment.ewch.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * A cursor the client made up or truncated. Client driven like a miss, so no stack trace is filled in.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message, null, false, false);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
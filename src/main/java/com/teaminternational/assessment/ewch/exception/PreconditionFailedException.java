@@ -0,0 +1,19 @@
+package com.teaminternational.assessment.ewch.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * A write whose If-Match no longer matches. It is answered with a fixed body, so no stack trace is filled in.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message, null, false, false);
+    }
+
+    public PreconditionFailedException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
@@ -0,0 +1,12 @@
+package com.teaminternational.assessment.ewch.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServerBusyException extends RuntimeException {
+
+    public ServerBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,64 @@
+package com.teaminternational.assessment.ewch.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The formats controllers answer in, JSON, CBOR and Smile, each with the ObjectMapper its message converter uses.
+ * Streaming endpoints write the body themselves, so they pick the format from the Accept header here.
+ */
+@Component
+public class DataFormats {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(Constants.APPLICATION_SMILE_VALUE);
+
+    private final ObjectMapper jsonObjectMapper;
+    private final ObjectMapper cborObjectMapper;
+    private final ObjectMapper smileObjectMapper;
+
+    public DataFormats(ObjectMapper jsonObjectMapper, MappingJackson2CborHttpMessageConverter cborHttpMessageConverter,
+                       MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter) {
+        this.jsonObjectMapper = jsonObjectMapper;
+        this.cborObjectMapper = cborHttpMessageConverter.getObjectMapper();
+        this.smileObjectMapper = smileHttpMessageConverter.getObjectMapper();
+    }
+
+    /**
+     * The most preferred of JSON, CBOR and Smile the Accept header allows, JSON when it allows any of them equally.
+     */
+    public MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> acceptedTypes = MediaType.parseMediaTypes(accept);
+        MediaType.sortBySpecificityAndQuality(acceptedTypes);
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return MediaType.APPLICATION_JSON;
+            }
+            if (acceptedType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return MediaType.APPLICATION_CBOR;
+            }
+            if (acceptedType.isCompatibleWith(APPLICATION_SMILE)) {
+                return APPLICATION_SMILE;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    public ObjectMapper objectMapper(MediaType mediaType) {
+        if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)) {
+            return cborObjectMapper;
+        }
+        if (APPLICATION_SMILE.equalsTypeAndSubtype(mediaType)) {
+            return smileObjectMapper;
+        }
+        return jsonObjectMapper;
+    }
+}
@@ -0,0 +1,92 @@
+package com.teaminternational.assessment.ewch.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Writes {@link EmployeeDto} field by field with pre-encoded names, producing what the reflective bean serializer
+ * does: fields in declaration order, {@code null}s left out and dates as ISO strings unless timestamps are enabled.
+ * A field added to EmployeeDto has to be added here too, JsonFastPathTest compares both outputs.
+ */
+public class EmployeeDtoSerializer extends StdSerializer<EmployeeDto> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString USERNAME = new SerializedString("username");
+    private static final SerializedString DATE_OF_BIRTH = new SerializedString("dateOfBirth");
+    private static final SerializedString HIRE_DATE = new SerializedString("hireDate");
+    private static final SerializedString AREA_ID = new SerializedString("areaId");
+    private static final SerializedString AREA_NAME = new SerializedString("areaName");
+    private static final SerializedString JOB_TITLE_ID = new SerializedString("jobTitleId");
+    private static final SerializedString JOB_TITLE_NAME = new SerializedString("jobTitleName");
+    private static final SerializedString COUNTRY_ID = new SerializedString("countryId");
+    private static final SerializedString COUNTRY_NAME = new SerializedString("countryName");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString TIP_RATE = new SerializedString("tipRate");
+    private static final SerializedString AGE = new SerializedString("age");
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    public EmployeeDtoSerializer() {
+        super(EmployeeDto.class);
+    }
+
+    @Override
+    public void serialize(EmployeeDto employeeDto, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(employeeDto);
+        writeNumber(generator, ID, employeeDto.getId());
+        writeString(generator, NAME, employeeDto.getName());
+        writeString(generator, USERNAME, employeeDto.getUsername());
+        writeDate(generator, provider, DATE_OF_BIRTH, employeeDto.getDateOfBirth());
+        writeDate(generator, provider, HIRE_DATE, employeeDto.getHireDate());
+        writeNumber(generator, AREA_ID, employeeDto.getAreaId());
+        writeString(generator, AREA_NAME, employeeDto.getAreaName());
+        writeNumber(generator, JOB_TITLE_ID, employeeDto.getJobTitleId());
+        writeString(generator, JOB_TITLE_NAME, employeeDto.getJobTitleName());
+        writeNumber(generator, COUNTRY_ID, employeeDto.getCountryId());
+        writeString(generator, COUNTRY_NAME, employeeDto.getCountryName());
+        if (employeeDto.getStatus() != null) {
+            generator.writeFieldName(STATUS);
+            generator.writeBoolean(employeeDto.getStatus());
+        }
+        generator.writeFieldName(TIP_RATE);
+        generator.writeNumber(employeeDto.getTipRate());
+        generator.writeFieldName(AGE);
+        generator.writeNumber(employeeDto.getAge());
+        writeNumber(generator, VERSION, employeeDto.getVersion());
+        generator.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator generator, SerializedString name, Long value) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeNumber(value);
+        }
+    }
+
+    private static void writeString(JsonGenerator generator, SerializedString name, String value) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeString(value);
+        }
+    }
+
+    private static void writeDate(JsonGenerator generator, SerializerProvider provider, SerializedString name,
+                                  LocalDate value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeField(name.getValue(), value, generator);
+            return;
+        }
+        generator.writeFieldName(name);
+        generator.writeString(value.toString());
+    }
+}
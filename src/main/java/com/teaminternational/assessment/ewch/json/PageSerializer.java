@@ -0,0 +1,68 @@
+package com.teaminternational.assessment.ewch.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link Page} as its content and the counters clients page with, leaving out the {@code pageable},
+ * {@code sort} and {@code empty} blocks {@code PageImpl} would otherwise serialize on every response. The serializer of
+ * the elements is looked up once per element class rather than once per element.
+ */
+public class PageSerializer extends StdSerializer<Page<?>> {
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString NUMBER = new SerializedString("number");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString NUMBER_OF_ELEMENTS = new SerializedString("numberOfElements");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializedString FIRST = new SerializedString("first");
+    private static final SerializedString LAST = new SerializedString("last");
+
+    @SuppressWarnings("unchecked")
+    public PageSerializer() {
+        super((Class<Page<?>>) (Class<?>) Page.class);
+    }
+
+    @Override
+    public void serialize(Page<?> page, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(page);
+        generator.writeFieldName(CONTENT);
+        generator.writeStartArray();
+        Class<?> elementClass = null;
+        JsonSerializer<Object> elementSerializer = null;
+        for (Object element : page.getContent()) {
+            if (element == null) {
+                provider.defaultSerializeNull(generator);
+                continue;
+            }
+            if (element.getClass() != elementClass) {
+                elementClass = element.getClass();
+                elementSerializer = provider.findValueSerializer(elementClass);
+            }
+            elementSerializer.serialize(element, generator, provider);
+        }
+        generator.writeEndArray();
+        generator.writeFieldName(NUMBER);
+        generator.writeNumber(page.getNumber());
+        generator.writeFieldName(SIZE);
+        generator.writeNumber(page.getSize());
+        generator.writeFieldName(NUMBER_OF_ELEMENTS);
+        generator.writeNumber(page.getNumberOfElements());
+        generator.writeFieldName(TOTAL_ELEMENTS);
+        generator.writeNumber(page.getTotalElements());
+        generator.writeFieldName(TOTAL_PAGES);
+        generator.writeNumber(page.getTotalPages());
+        generator.writeFieldName(FIRST);
+        generator.writeBoolean(page.isFirst());
+        generator.writeFieldName(LAST);
+        generator.writeBoolean(page.isLast());
+        generator.writeEndObject();
+    }
+}
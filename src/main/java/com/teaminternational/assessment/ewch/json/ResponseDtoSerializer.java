@@ -0,0 +1,46 @@
+package com.teaminternational.assessment.ewch.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.teaminternational.assessment.ewch.model.dto.ResponseDto;
+import com.teaminternational.assessment.ewch.utils.Constants;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link ResponseDto} as the map controllers used to build: {@code error}, a string or the list of field
+ * errors, or {@code message}, then the body under its resource name, {@code null} included. Responses without a
+ * resource name have no body field.
+ */
+public class ResponseDtoSerializer extends StdSerializer<ResponseDto<?>> {
+
+    private static final SerializedString ERROR = new SerializedString(Constants.ERROR);
+    private static final SerializedString MESSAGE = new SerializedString(Constants.MESSAGE);
+
+    @SuppressWarnings("unchecked")
+    public ResponseDtoSerializer() {
+        super((Class<ResponseDto<?>>) (Class<?>) ResponseDto.class);
+    }
+
+    @Override
+    public void serialize(ResponseDto<?> response, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(response);
+        if (response.getError() != null) {
+            generator.writeFieldName(ERROR);
+            generator.writeString(response.getError());
+        } else if (response.getErrors() != null) {
+            generator.writeFieldName(ERROR);
+            provider.defaultSerializeValue(response.getErrors(), generator);
+        }
+        if (response.getMessage() != null) {
+            generator.writeFieldName(MESSAGE);
+            generator.writeString(response.getMessage());
+        }
+        if (response.getName() != null) {
+            provider.defaultSerializeField(response.getName(), response.getBody(), generator);
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,15 @@
+package com.teaminternational.assessment.ewch.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Hand-written serializers for the payloads on the hot read paths: employees and pages of anything.
+ */
+public class RestaurantJsonModule extends SimpleModule {
+
+    public RestaurantJsonModule() {
+        super(RestaurantJsonModule.class.getSimpleName());
+        addSerializer(new EmployeeDtoSerializer());
+        addSerializer(new PageSerializer());
+    }
+}
@@ -0,0 +1,13 @@
+package com.teaminternational.assessment.ewch.mapper;
+
+import com.teaminternational.assessment.ewch.model.dto.AreaDto;
+import com.teaminternational.assessment.ewch.model.entity.Area;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring", uses = IJobTitleMapper.class)
+public interface IAreaMapper {
+
+    AreaDto toDto(Area area);
+
+    Area toEntity(AreaDto areaDto);
+}
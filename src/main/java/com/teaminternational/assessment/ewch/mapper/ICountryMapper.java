@@ -0,0 +1,13 @@
+package com.teaminternational.assessment.ewch.mapper;
+
+import com.teaminternational.assessment.ewch.model.dto.CountryDto;
+import com.teaminternational.assessment.ewch.model.entity.Country;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ICountryMapper {
+
+    CountryDto toDto(Country country);
+
+    Country toEntity(CountryDto countryDto);
+}
@@ -0,0 +1,46 @@
+package com.teaminternational.assessment.ewch.mapper;
+
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.model.entity.Employee;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Mappings;
+
+@Mapper(componentModel = "spring")
+public interface IEmployeeMapper {
+
+    @Mappings({
+            @Mapping(source = "jobTitle.area.id", target = "areaId"),
+            @Mapping(source = "jobTitle.area.name", target = "areaName"),
+            @Mapping(source = "jobTitle.id", target = "jobTitleId"),
+            @Mapping(source = "jobTitle.name", target = "jobTitleName"),
+            @Mapping(source = "country.id", target = "countryId"),
+            @Mapping(source = "country.name", target = "countryName")
+    })
+    EmployeeDto toDto(Employee employee);
+
+    @Mappings({
+            @Mapping(source = "jobTitleId", target = "jobTitle.id"),
+            @Mapping(source = "jobTitleName", target = "jobTitle.name"),
+            @Mapping(source = "areaId", target = "jobTitle.area.id"),
+            @Mapping(source = "areaName", target = "jobTitle.area.name"),
+            @Mapping(source = "countryId", target = "country.id"),
+            @Mapping(source = "countryName", target = "country.name"),
+            @Mapping(target = "birthMonthDay", ignore = true),
+            @Mapping(target = "hireMonthDay", ignore = true),
+            @Mapping(target = "age", ignore = true)
+    })
+    Employee toEntity(EmployeeDto employeeDto);
+
+    @Mappings({
+            @Mapping(target = "id", ignore = true),
+            @Mapping(target = "jobTitle", ignore = true),
+            @Mapping(target = "country", ignore = true),
+            @Mapping(target = "version", ignore = true),
+            @Mapping(target = "birthMonthDay", ignore = true),
+            @Mapping(target = "hireMonthDay", ignore = true),
+            @Mapping(target = "age", ignore = true)
+    })
+    void updateEntity(EmployeeDto employeeDto, @MappingTarget Employee employee);
+}
@@ -0,0 +1,23 @@
+package com.teaminternational.assessment.ewch.mapper;
+
+import com.teaminternational.assessment.ewch.model.dto.JobTitleDto;
+import com.teaminternational.assessment.ewch.model.entity.JobTitle;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Mappings;
+
+@Mapper(componentModel = "spring")
+public interface IJobTitleMapper {
+
+    @Mappings({
+            @Mapping(source = "area.id", target = "areaId"),
+            @Mapping(source = "area.name", target = "areaName")
+    })
+    JobTitleDto toDto(JobTitle jobTitle);
+
+    @Mappings({
+            @Mapping(source = "areaId", target = "area.id"),
+            @Mapping(source = "areaName", target = "area.name")
+    })
+    JobTitle toEntity(JobTitleDto jobTitleDto);
+}
@@ -19,4 +19,5 @@ public class AreaDto implements Serializable {
     private Long id;
     private String name;
     private List<JobTitleDto> jobTitles;
+    private Long version;
 }
@@ -0,0 +1,26 @@
+package com.teaminternational.assessment.ewch.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * How one area's tip pool was split. {@code undistributed} is only non-zero when the area has no active employees.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AreaTipDistributionDto implements Serializable {
+
+    private Long areaId;
+    private BigDecimal pool;
+    private BigDecimal distributed;
+    private BigDecimal undistributed;
+    private List<TipShareDto> shares;
+}
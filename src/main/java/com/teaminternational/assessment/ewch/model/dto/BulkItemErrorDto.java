@@ -0,0 +1,19 @@
+package com.teaminternational.assessment.ewch.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemErrorDto implements Serializable {
+
+    private int index;
+    private String username;
+    private String error;
+}
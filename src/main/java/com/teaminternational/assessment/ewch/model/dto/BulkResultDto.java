@@ -0,0 +1,24 @@
+package com.teaminternational.assessment.ewch.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRootName;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonRootName(value = "result")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkResultDto implements Serializable {
+
+    private int created;
+    private int updated;
+    private int failed;
+    private List<Long> ids;
+    private List<BulkItemErrorDto> errors;
+}
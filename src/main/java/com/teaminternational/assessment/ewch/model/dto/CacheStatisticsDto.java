@@ -0,0 +1,25 @@
+package com.teaminternational.assessment.ewch.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRootName;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonRootName(value = "cache")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CacheStatisticsDto implements Serializable {
+
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    private long removals;
+    private long evictions;
+    private float hitPercentage;
+}
@@ -19,4 +19,5 @@ public class CountryDto implements Serializable {
     private String name;
     private String twoCharCode;
     private String threeCharCode;
+    private Long version;
 }
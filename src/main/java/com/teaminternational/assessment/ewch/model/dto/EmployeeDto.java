@@ -2,6 +2,7 @@ package com.teaminternational.assessment.ewch.model.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.teaminternational.assessment.ewch.utils.DateUtils;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -30,4 +31,15 @@ public class EmployeeDto implements Serializable {
     private Boolean status;
     private double tipRate;
     private int age;
+    private Long version;
+
+    /**
+     * Target of the JPQL constructor expressions in IEmployeeDao; age is derived the same way Employee does it.
+     */
+    public EmployeeDto(Long id, String name, String username, LocalDate dateOfBirth, LocalDate hireDate, Long areaId,
+                       String areaName, Long jobTitleId, String jobTitleName, Long countryId, String countryName,
+                       Boolean status, double tipRate, Long version) {
+        this(id, name, username, dateOfBirth, hireDate, areaId, areaName, jobTitleId, jobTitleName, countryId, countryName,
+                status, tipRate, DateUtils.getYearsInstantDifferenceFromNow(dateOfBirth), version);
+    }
 }
@@ -0,0 +1,30 @@
+package com.teaminternational.assessment.ewch.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRootName;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Body of a PATCH on an employee. Every field is optional and {@code null} leaves the stored value as it is.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonRootName(value = "employee")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeePatchDto implements Serializable {
+
+    private String name;
+    private String username;
+    private LocalDate dateOfBirth;
+    private LocalDate hireDate;
+    private Long jobTitleId;
+    private Long countryId;
+    private Boolean status;
+    private Double tipRate;
+}
@@ -0,0 +1,49 @@
+package com.teaminternational.assessment.ewch.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Headcount and tip rates of the employees in one area, job title, country or status. Tip rates are stored with two
+ * decimals, so sums are carried in cents and the average is rounded to four decimals.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GroupStatisticsDto implements Serializable {
+
+    private Long id;
+    private String name;
+    private long headcount;
+    private double averageTipRate;
+    private double minTipRate;
+    private double maxTipRate;
+
+    /**
+     * Target of the GROUP BY constructor expressions in IEmployeeDao, and used by EmployeeStatisticsIndex, so both
+     * round the same way and can be compared with equals.
+     */
+    public GroupStatisticsDto(Long id, String name, Long headcount, Double tipRateSum, Double minTipRate, Double maxTipRate) {
+        this.id = id;
+        this.name = name;
+        this.headcount = headcount;
+        this.averageTipRate = BigDecimal.valueOf(Math.round(tipRateSum * 100))
+                .divide(BigDecimal.valueOf(headcount * 100), 4, RoundingMode.HALF_UP).doubleValue();
+        this.minTipRate = Math.round(minTipRate * 100) / 100.0;
+        this.maxTipRate = Math.round(maxTipRate * 100) / 100.0;
+    }
+
+    /**
+     * Status groups are keyed 1 for active and 0 for inactive employees.
+     */
+    public GroupStatisticsDto(Boolean status, Long headcount, Double tipRateSum, Double minTipRate, Double maxTipRate) {
+        this(Boolean.TRUE.equals(status) ? 1L : 0L, Boolean.TRUE.equals(status) ? Constants.STATUS_ACTIVE : Constants.STATUS_INACTIVE,
+                headcount, tipRateSum, minTipRate, maxTipRate);
+    }
+}
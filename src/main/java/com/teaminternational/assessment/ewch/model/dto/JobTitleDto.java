@@ -19,4 +19,5 @@ public class JobTitleDto implements Serializable {
     private String name;
     private Long areaId;
     private String areaName;
+    private Long version;
 }
@@ -0,0 +1,62 @@
+package com.teaminternational.assessment.ewch.model.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.teaminternational.assessment.ewch.json.ResponseDtoSerializer;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Typed envelope of a single resource: a success message or an error, and the resource under its name, e.g.
+ * {@code {"message": "...", "employee": {...}}}. Serialized as the {@code Map} controllers used to build for it,
+ * without allocating one per response.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonSerialize(using = ResponseDtoSerializer.class)
+public final class ResponseDto<T> {
+
+    private final String message;
+    private final String error;
+    private final List<String> errors;
+    private final String name;
+    private final T body;
+
+    public static <T> ResponseDto<T> of(String message, String name, T body) {
+        return new ResponseDto<>(message, null, null, name, body);
+    }
+
+    /**
+     * A success message alone, written as {@code {"message": "..."}}.
+     */
+    public static <T> ResponseDto<T> of(String message) {
+        return new ResponseDto<>(message, null, null, null, null);
+    }
+
+    /**
+     * An error that still reports a resource, such as a bulk save with failed rows.
+     */
+    public static <T> ResponseDto<T> error(String error, String name, T body) {
+        return new ResponseDto<>(null, error, null, name, body);
+    }
+
+    public static <T> ResponseDto<T> error(String error, String name) {
+        return error(error, name, null);
+    }
+
+    /**
+     * An error not tied to a resource, written as {@code {"error": "..."}} alone.
+     */
+    public static <T> ResponseDto<T> error(String error) {
+        return error(error, null, null);
+    }
+
+    /**
+     * Bean validation failures, one per field, written as {@code {"error": ["...", ...]}}.
+     */
+    public static <T> ResponseDto<T> errors(List<String> errors) {
+        return new ResponseDto<>(null, null, errors, null, null);
+    }
+}
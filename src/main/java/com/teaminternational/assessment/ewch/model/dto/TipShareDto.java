@@ -0,0 +1,17 @@
+package com.teaminternational.assessment.ewch.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TipShareDto implements Serializable {
+
+    private Long employeeId;
+    private BigDecimal amount;
+}
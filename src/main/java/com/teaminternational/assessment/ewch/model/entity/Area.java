@@ -1,8 +1,13 @@
 package com.teaminternational.assessment.ewch.model.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.teaminternational.assessment.ewch.event.CollectionVersionListener;
+import com.teaminternational.assessment.ewch.utils.Constants;
 import com.teaminternational.assessment.ewch.utils.ErrorMessages;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
@@ -13,9 +18,15 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@EntityListeners(CollectionVersionListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.CACHE_REGION_AREAS)
 @Table(name = "areas")
+@NamedEntityGraph(name = Area.GRAPH_JOB_TITLES, attributeNodes = @NamedAttributeNode("jobTitles"))
 public class Area {
 
+    public static final String GRAPH_JOB_TITLES = "Area.jobTitles";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -26,14 +37,21 @@ public class Area {
 
     @ToString.Exclude
     @JsonIgnoreProperties(value = {"area", "hibernateLazyInitializer", "handler"}, allowSetters = true)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.CACHE_REGION_AREA_JOB_TITLES)
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "area", cascade = CascadeType.ALL)
     private List<JobTitle> jobTitles;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @Override
     public String toString() {
         return "Area{" +
                 "id=" + id +
                 ", name='" + name + '\'' +
+                ", version=" + version +
                 '}';
     }
 }
@@ -1,9 +1,13 @@
 package com.teaminternational.assessment.ewch.model.entity;
 
+import com.teaminternational.assessment.ewch.event.CollectionVersionListener;
+import com.teaminternational.assessment.ewch.utils.Constants;
 import com.teaminternational.assessment.ewch.utils.ErrorMessages;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
@@ -12,6 +16,9 @@ import javax.validation.constraints.NotEmpty;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@EntityListeners(CollectionVersionListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.CACHE_REGION_COUNTRIES)
 @Table(name = "countries")
 public class Country {
 
@@ -31,4 +38,8 @@ public class Country {
     @NotEmpty(message = ErrorMessages.USERNAME_NOT_EMPTY)
     private String threeCharCode;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
 }
@@ -1,6 +1,7 @@
 package com.teaminternational.assessment.ewch.model.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.teaminternational.assessment.ewch.utils.Constants;
 import com.teaminternational.assessment.ewch.utils.DateUtils;
 import com.teaminternational.assessment.ewch.utils.ErrorMessages;
 import lombok.AllArgsConstructor;
@@ -16,10 +17,22 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @Entity
 @Table(name = "employees")
+@NamedEntityGraph(name = Employee.GRAPH_DETAIL,
+        attributeNodes = {
+                @NamedAttributeNode(value = "jobTitle", subgraph = "jobTitle.area"),
+                @NamedAttributeNode("country")
+        },
+        subgraphs = @NamedSubgraph(name = "jobTitle.area", attributeNodes = @NamedAttributeNode("area")))
 public class Employee {
 
+    /**
+     * Fetches job title, its area and country together with the employee, which is everything EmployeeDto needs.
+     */
+    public static final String GRAPH_DETAIL = "Employee.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = Constants.JDBC_BATCH_SIZE)
     private Long id;
 
     @Column(name = "name", nullable = false)
@@ -38,6 +51,17 @@ public class Employee {
     @NotEmpty(message = ErrorMessages.HIRE_DATE_NOT_EMPTY)
     private LocalDate hireDate;
 
+    /**
+     * Month and day of the birth date as MMDD, computed by the database so upcoming birthdays are an index range.
+     */
+    @Column(name = "birth_month_day", insertable = false, updatable = false,
+            columnDefinition = "int as (month(date_of_birth) * 100 + day_of_month(date_of_birth))")
+    private Integer birthMonthDay;
+
+    @Column(name = "hire_month_day", insertable = false, updatable = false,
+            columnDefinition = "int as (month(hire_date) * 100 + day_of_month(hire_date))")
+    private Integer hireMonthDay;
+
     @JsonIgnoreProperties(value = {"employees", "hibernateLazyInitializer", "handler"}, allowSetters = true)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "job_title_id", nullable = false)
@@ -57,6 +81,10 @@ public class Employee {
     @Column(name = "tip_rate", nullable = false, columnDefinition="Decimal(10,2) default '0.00'")
     private double tipRate;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @Transient
     private int age;
 
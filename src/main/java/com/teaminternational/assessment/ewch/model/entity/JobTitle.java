@@ -1,11 +1,15 @@
 package com.teaminternational.assessment.ewch.model.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.teaminternational.assessment.ewch.event.CollectionVersionListener;
+import com.teaminternational.assessment.ewch.utils.Constants;
 import com.teaminternational.assessment.ewch.utils.ErrorMessages;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
@@ -15,6 +19,9 @@ import javax.validation.constraints.NotEmpty;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@EntityListeners(CollectionVersionListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.CACHE_REGION_JOB_TITLES)
 @Table(name = "job_titles")
 public class JobTitle {
 
@@ -31,12 +38,17 @@ public class JobTitle {
     @JoinColumn(name = "area_id")
     private Area area;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @Override
     public String toString() {
         return "JobTitle{" +
                 "id=" + id +
                 ", name='" + name + '\'' +
                 ", area=" + area +
+                ", version=" + version +
                 '}';
     }
 }
@@ -0,0 +1,60 @@
+package com.teaminternational.assessment.ewch.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket holding up to {@code capacity} requests and refilled with {@code refillPerSecond} of them every
+ * second, written {@code capacity/refillPerSecond} in application.properties.
+ */
+public final class RateLimit {
+
+    private final long capacity;
+    private final long refillPerSecond;
+    private final long emissionInterval;
+    private final long burstTolerance;
+
+    public RateLimit(long capacity, long refillPerSecond) {
+        if (capacity < 1 || refillPerSecond < 1) {
+            throw new IllegalArgumentException("Rate limits need a capacity and a refill of at least 1.");
+        }
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.emissionInterval = Math.max(TimeUnit.SECONDS.toNanos(1) / refillPerSecond, 1);
+        this.burstTolerance = Math.multiplyExact(emissionInterval, capacity);
+    }
+
+    public static RateLimit parse(String value) {
+        String[] parts = value.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Rate limits are written capacity/refillPerSecond, got: " + value);
+        }
+        return new RateLimit(Long.parseLong(parts[0].trim()), Long.parseLong(parts[1].trim()));
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public long getRefillPerSecond() {
+        return refillPerSecond;
+    }
+
+    /**
+     * Nanoseconds it takes to refill one token.
+     */
+    long emissionInterval() {
+        return emissionInterval;
+    }
+
+    /**
+     * Nanoseconds it takes to refill a bucket from empty.
+     */
+    long burstTolerance() {
+        return burstTolerance;
+    }
+
+    @Override
+    public String toString() {
+        return capacity + "/" + refillPerSecond;
+    }
+}
@@ -0,0 +1,165 @@
+package com.teaminternational.assessment.ewch.ratelimit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits {@code /api/v1} per client and per client and endpoint. Clients are told apart by their
+ * {@value Constants#API_KEY_HEADER} header when it holds one of the configured keys, and by their address otherwise,
+ * so made-up keys buy no extra tokens. Endpoints are the method and the first two path segments below
+ * {@code /api/v1}, with numeric segments read as {@code {id}}, so {@code GET /employees/all} and
+ * {@code GET /employees/{id}} are limited separately. Paths that match no mapped route all count as one endpoint,
+ * {@value #UNMAPPED}, so made-up paths add no buckets either.
+ * <p>
+ * A request takes a token from its endpoint bucket, then from its client bucket; when the client bucket turns it
+ * down the endpoint token is given back.
+ * <p>
+ * Rejected requests get {@code 429 Too Many Requests} with {@code Retry-After} in seconds. How long the decision
+ * takes is timed as {@value #DECISION_TIMER} by outcome.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final String DECISION_TIMER = "restaurant.ratelimit.decision";
+    private static final String API_PREFIX = "/api/v1";
+    private static final int ENDPOINT_SEGMENTS = 2;
+    private static final String ID = "{id}";
+    public static final String UNMAPPED = "unmapped";
+
+    private final TokenBuckets buckets;
+    private final RateLimit clientLimit;
+    private final RateLimit endpointLimit;
+    private final Map<String, RateLimit> endpointLimits;
+    private final Set<String> apiKeys;
+    private volatile Set<String> routes = Collections.emptySet();
+    private final byte[] rejectedBody;
+    private final Timer allowed;
+    private final Timer rejected;
+
+    public RateLimitFilter(TokenBuckets buckets, RateLimit clientLimit, RateLimit endpointLimit,
+                           Map<String, RateLimit> endpointLimits, Set<String> apiKeys,
+                           ObjectMapper objectMapper, MeterRegistry registry) {
+        this.buckets = buckets;
+        this.clientLimit = clientLimit;
+        this.endpointLimit = endpointLimit;
+        this.endpointLimits = endpointLimits;
+        this.apiKeys = apiKeys;
+        try {
+            this.rejectedBody = objectMapper.writeValueAsBytes(
+                    Collections.singletonMap(Constants.ERROR, ErrorMessages.TOO_MANY_REQUESTS));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        this.allowed = timer(registry, "allowed");
+        this.rejected = timer(registry, "rejected");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        String client = client(request);
+        String endpoint = endpoint(request);
+        String endpointKey = client + ' ' + endpoint;
+        RateLimit limit = endpointLimits.getOrDefault(endpoint, endpointLimit);
+        long wait = buckets.tryAcquire(endpointKey, limit, start);
+        if (wait == 0) {
+            wait = buckets.tryAcquire(client, clientLimit, start);
+            if (wait > 0) {
+                buckets.release(endpointKey, limit, start);
+            }
+        }
+        if (wait == 0) {
+            allowed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            filterChain.doFilter(request, response);
+            return;
+        }
+        rejected.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        LOGGER.debug("[RateLimitFilter]: Rejecting {} for {} :: doFilterInternal", endpoint, client);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (wait + 999_999_999) / 1_000_000_000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(rejectedBody.length);
+        response.getOutputStream().write(rejectedBody);
+    }
+
+    /**
+     * Sets the endpoints served, named with {@link #endpoint(String, String)} from their mapped paths. Until then
+     * every request counts as {@value #UNMAPPED}.
+     */
+    public void setRoutes(Set<String> routes) {
+        this.routes = routes;
+    }
+
+    private String client(HttpServletRequest request) {
+        String apiKey = request.getHeader(Constants.API_KEY_HEADER);
+        return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+
+    private String endpoint(HttpServletRequest request) {
+        String endpoint = endpoint(request.getMethod(), request.getRequestURI().substring(request.getContextPath().length()));
+        return routes.contains(endpoint) ? endpoint : UNMAPPED;
+    }
+
+    /**
+     * Names the endpoint of a request path, or of a mapped path pattern, whose variables are read as {@code {id}}.
+     */
+    public static String endpoint(String method, String path) {
+        StringBuilder endpoint = new StringBuilder(method).append(' ');
+        int from = path.startsWith(API_PREFIX) ? API_PREFIX.length() : 0;
+        int segments = 0;
+        while (from < path.length() && segments < ENDPOINT_SEGMENTS) {
+            int to = path.indexOf('/', from + 1);
+            to = to < 0 ? path.length() : to;
+            if (to > from + 1) {
+                endpoint.append('/');
+                appendSegment(endpoint, path, from + 1, to);
+                segments++;
+            }
+            from = to;
+        }
+        return endpoint.toString();
+    }
+
+    private static void appendSegment(StringBuilder endpoint, String path, int from, int to) {
+        if (path.charAt(from) == '{') {
+            endpoint.append(ID);
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            if (!Character.isDigit(path.charAt(i))) {
+                endpoint.append(path, from, to);
+                return;
+            }
+        }
+        endpoint.append(ID);
+    }
+
+    private static Timer timer(MeterRegistry registry, String outcome) {
+        return Timer.builder(DECISION_TIMER)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(registry);
+    }
+}
@@ -0,0 +1,122 @@
+package com.teaminternational.assessment.ewch.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets by key, spread over a power-of-two number of stripes so that threads working on different clients
+ * rarely touch the same map, and the idle sweep walks one stripe at a time.
+ * <p>
+ * A bucket is a single {@link AtomicLong} holding the instant, in {@link System#nanoTime()} terms, at which it will be
+ * full again (the generic cell rate algorithm). Taking a token moves that instant one refill interval ahead with a
+ * compare-and-set; the bucket is empty when it lies more than a whole burst ahead of now. No lock is held on the
+ * request path, and a bucket whose instant has passed is full, so dropping it loses nothing.
+ * <p>
+ * Each stripe holds at most its share of {@code maxBuckets}. Keys arriving at a full stripe share one overflow bucket
+ * with every other such key until the idle sweep makes room, so a flood of new keys is limited together instead of
+ * growing the map.
+ */
+public final class TokenBuckets {
+
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+    private final AtomicLong[] overflow;
+    private final int mask;
+    private final int maxPerStripe;
+
+    @SuppressWarnings("unchecked")
+    public TokenBuckets(int concurrency, int maxBuckets) {
+        int size = 1;
+        while (size < concurrency) {
+            size <<= 1;
+        }
+        stripes = new ConcurrentHashMap[size];
+        overflow = new AtomicLong[size];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+            overflow[i] = new AtomicLong(Long.MIN_VALUE);
+        }
+        mask = stripes.length - 1;
+        maxPerStripe = Math.max(1, maxBuckets / size);
+    }
+
+    /**
+     * Takes a token from the bucket of {@code key}, creating it full if needed.
+     *
+     * @return 0 if a token was taken, otherwise the nanoseconds until one will be available
+     */
+    public long tryAcquire(String key, RateLimit limit, long now) {
+        AtomicLong bucket = bucket(key, now);
+        while (true) {
+            long fullAt = bucket.get();
+            long nextFullAt = Math.max(fullAt, now) + limit.emissionInterval();
+            long wait = nextFullAt - now - limit.burstTolerance();
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, nextFullAt)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Gives back a token taken with {@link #tryAcquire}, when a later check rejected the request it was taken for.
+     * A bucket is never refilled past full.
+     */
+    public void release(String key, RateLimit limit, long now) {
+        int index = stripe(key);
+        AtomicLong bucket = stripes[index].get(key);
+        if (bucket == null) {
+            bucket = overflow[index];
+        }
+        bucket.accumulateAndGet(limit.emissionInterval(),
+                (fullAt, interval) -> fullAt <= now ? fullAt : Math.max(now, fullAt - interval));
+    }
+
+    /**
+     * Drops buckets that have been full for at least {@code idleNanos}. A token taken while its bucket is being
+     * dropped is forgotten, which at worst lets one more request through.
+     *
+     * @return the number of buckets dropped
+     */
+    public int evictIdle(long now, long idleNanos) {
+        int evicted = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            for (Iterator<Map.Entry<String, AtomicLong>> it = stripe.entrySet().iterator(); it.hasNext(); ) {
+                if (now - it.next().getValue().get() >= idleNanos) {
+                    it.remove();
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        int index = stripe(key);
+        ConcurrentHashMap<String, AtomicLong> stripe = stripes[index];
+        AtomicLong bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.size() >= maxPerStripe) {
+            return overflow[index];
+        }
+        return stripe.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    private int stripe(String key) {
+        int hash = key.hashCode();
+        return (hash ^ hash >>> 16) & mask;
+    }
+}
@@ -1,13 +1,65 @@
 package com.teaminternational.assessment.ewch.repository;
 
 import com.teaminternational.assessment.ewch.model.entity.Area;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface IAreaDao extends JpaRepository<Area, Long> {
 
+    /**
+     * One row per job title of an area, or a single row with null job title columns for an area without any.
+     */
+    interface AreaJobTitleView {
+        Long getAreaId();
+
+        String getAreaName();
+
+        Long getAreaVersion();
+
+        Long getJobTitleId();
+
+        String getJobTitleName();
+
+        Long getJobTitleVersion();
+    }
+
+    /**
+     * Fetch joins the job titles; the page variant relies on the batch size of Area.jobTitles instead,
+     * since a collection fetch join cannot be paginated in the database.
+     */
+    @Override
+    @Query(value = "SELECT DISTINCT a FROM Area a LEFT JOIN FETCH a.jobTitles ORDER BY a.id")
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    List<Area> findAll();
+
+    @Query(value = "SELECT a.id AS areaId, a.name AS areaName, a.version AS areaVersion, j.id AS jobTitleId, "
+            + "j.name AS jobTitleName, j.version AS jobTitleVersion FROM Area a LEFT JOIN a.jobTitles j ORDER BY a.id, j.id")
+    List<AreaJobTitleView> findAllAreaJobTitles();
+
+    @Override
+    @EntityGraph(Area.GRAPH_JOB_TITLES)
+    Optional<Area> findById(Long id);
+
+    @EntityGraph(Area.GRAPH_JOB_TITLES)
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = Constants.CACHE_REGION_FIND_BY_NAME)
+    })
     Optional<Area> findAreaByName(String name);
+
+    @Modifying
+    @Query(value = "DELETE FROM Area a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,13 +1,38 @@
 package com.teaminternational.assessment.ewch.repository;
 
 import com.teaminternational.assessment.ewch.model.entity.Country;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ICountryDao extends JpaRepository<Country, Long> {
 
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = Constants.CACHE_REGION_FIND_BY_NAME)
+    })
     Optional<Country> findCountryByName(String name);
+
+    @Query(value = "SELECT c FROM Country c ORDER BY c.name, c.id")
+    Slice<Country> findFirstKeysetPage(Pageable pageable);
+
+    @Query(value = "SELECT c FROM Country c WHERE c.name >= :name AND (c.name > :name OR c.id > :id) ORDER BY c.name, c.id")
+    Slice<Country> findKeysetPageAfter(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+    @Query(value = "SELECT c FROM Country c ORDER BY c.id")
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = Constants.STREAM_FETCH_SIZE),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    Stream<Country> streamAll();
 }
@@ -1,19 +1,163 @@
 package com.teaminternational.assessment.ewch.repository;
 
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.model.dto.GroupStatisticsDto;
 import com.teaminternational.assessment.ewch.model.entity.Employee;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface IEmployeeDao extends JpaRepository<Employee, Long> {
 
+    /**
+     * Selects exactly the columns of EmployeeDto in one joined query, so read-only paths skip entity hydration,
+     * proxies and dirty-checking snapshots.
+     */
+    String DTO_SELECT = "SELECT new com.teaminternational.assessment.ewch.model.dto.EmployeeDto(e.id, e.name, e.username, "
+            + "e.dateOfBirth, e.hireDate, a.id, a.name, j.id, j.name, c.id, c.name, e.status, e.tipRate, e.version) "
+            + "FROM Employee e JOIN e.jobTitle j LEFT JOIN j.area a JOIN e.country c";
+
+    /**
+     * Headcount and tip rate aggregates closing a GroupStatisticsDto constructor expression.
+     */
+    String STATISTICS_SELECT = "COUNT(e), SUM(e.tipRate), MIN(e.tipRate), MAX(e.tipRate)) FROM Employee e";
+
+    /**
+     * Id and username only, enough to detect username collisions without loading whole employees.
+     */
+    interface UsernameView {
+        Long getId();
+
+        String getUsername();
+    }
+
+    /**
+     * What the tip pool distribution needs of an active employee.
+     */
+    interface TipRateView {
+        Long getId();
+
+        Long getAreaId();
+
+        double getTipRate();
+    }
+
+    @Override
+    @EntityGraph(Employee.GRAPH_DETAIL)
+    List<Employee> findAll();
+
+    @Override
+    @EntityGraph(Employee.GRAPH_DETAIL)
+    Page<Employee> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(Employee.GRAPH_DETAIL)
+    Optional<Employee> findById(Long id);
+
+    @Query(value = DTO_SELECT)
+    List<EmployeeDto> findAllDtos();
+
+    @Query(value = DTO_SELECT, countQuery = "SELECT COUNT(e) FROM Employee e")
+    Page<EmployeeDto> findAllDtos(Pageable pageable);
+
+    @Query(value = DTO_SELECT + " WHERE e.id = :id")
+    Optional<EmployeeDto> findDtoById(@Param("id") Long id);
+
+    @Query(value = DTO_SELECT + " WHERE e.id IN :ids")
+    List<EmployeeDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = DTO_SELECT + " WHERE e.username = :username")
+    Optional<EmployeeDto> findDtoByUsername(@Param("username") String username);
+
+    @Query(value = DTO_SELECT + " WHERE e.dateOfBirth BETWEEN :from AND :to",
+            countQuery = "SELECT COUNT(e) FROM Employee e WHERE e.dateOfBirth BETWEEN :from AND :to")
+    Page<EmployeeDto> findDtosByDateOfBirthBetween(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    @Query(value = DTO_SELECT + " WHERE e.birthMonthDay BETWEEN :from AND :to ORDER BY e.birthMonthDay, e.id")
+    List<EmployeeDto> findDtosByBirthMonthDayBetween(@Param("from") int from, @Param("to") int to);
+
+    @Query(value = DTO_SELECT + " WHERE e.hireMonthDay BETWEEN :from AND :to AND e.hireDate < :hiredBefore "
+            + "ORDER BY e.hireMonthDay, e.id")
+    List<EmployeeDto> findDtosByHireMonthDayBetween(@Param("from") int from, @Param("to") int to,
+                                                    @Param("hiredBefore") LocalDate hiredBefore);
+
     Optional<Employee> findEmployeeByName(String name);
 
+    @EntityGraph(Employee.GRAPH_DETAIL)
     Optional<Employee> findEmployeeByUsername(String username);
 
+    List<UsernameView> findByUsernameIn(Collection<String> usernames);
+
+    @Query(value = "SELECT new com.teaminternational.assessment.ewch.model.dto.GroupStatisticsDto(a.id, a.name, "
+            + STATISTICS_SELECT + " JOIN e.jobTitle j LEFT JOIN j.area a GROUP BY a.id, a.name")
+    List<GroupStatisticsDto> findAreaStatistics();
+
+    @Query(value = "SELECT new com.teaminternational.assessment.ewch.model.dto.GroupStatisticsDto(j.id, j.name, "
+            + STATISTICS_SELECT + " JOIN e.jobTitle j GROUP BY j.id, j.name")
+    List<GroupStatisticsDto> findJobTitleStatistics();
+
+    @Query(value = "SELECT new com.teaminternational.assessment.ewch.model.dto.GroupStatisticsDto(c.id, c.name, "
+            + STATISTICS_SELECT + " JOIN e.country c GROUP BY c.id, c.name")
+    List<GroupStatisticsDto> findCountryStatistics();
+
+    @Query(value = "SELECT new com.teaminternational.assessment.ewch.model.dto.GroupStatisticsDto(e.status, "
+            + STATISTICS_SELECT + " GROUP BY e.status")
+    List<GroupStatisticsDto> findStatusStatistics();
+
+    @Query(value = "SELECT e.version FROM Employee e WHERE e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @EntityGraph(Employee.GRAPH_DETAIL)
     @Query(value = "SELECT e FROM Employee e WHERE e.name LIKE ?1 OR e.username LIKE ?1 ORDER BY e.id")
     Optional<Employee> findEmployeeByNameOrUsername(String nameOrUsername);
+
+    @EntityGraph(Employee.GRAPH_DETAIL)
+    @Query(value = "SELECT e FROM Employee e ORDER BY e.name, e.id")
+    Slice<Employee> findFirstKeysetPage(Pageable pageable);
+
+    @EntityGraph(Employee.GRAPH_DETAIL)
+    @Query(value = "SELECT e FROM Employee e WHERE e.name >= :name AND (e.name > :name OR e.id > :id) ORDER BY e.name, e.id")
+    Slice<Employee> findKeysetPageAfter(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(Employee.GRAPH_DETAIL)
+    @Query(value = "SELECT e FROM Employee e ORDER BY e.id")
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = Constants.STREAM_FETCH_SIZE),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    Stream<Employee> streamAll();
+
+    @Query(value = "SELECT e.id AS id, j.area.id AS areaId, e.tipRate AS tipRate FROM Employee e JOIN e.jobTitle j "
+            + "WHERE e.status = true AND j.area IS NOT NULL ORDER BY j.area.id, e.id")
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = Constants.STREAM_FETCH_SIZE),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    Stream<TipRateView> streamActiveTipRates();
+
+    @Query(value = "SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes by id in one statement, without loading the employees first.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM Employee e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,13 +1,67 @@
 package com.teaminternational.assessment.ewch.repository;
 
+import com.teaminternational.assessment.ewch.model.dto.JobTitleDto;
 import com.teaminternational.assessment.ewch.model.entity.JobTitle;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface IJobTitleDao extends JpaRepository<JobTitle, Long> {
 
+    /**
+     * Selects exactly the columns of JobTitleDto. Lookups by id or name stay on the entity, which the second-level
+     * cache answers without a query.
+     */
+    String DTO_SELECT = "SELECT new com.teaminternational.assessment.ewch.model.dto.JobTitleDto(j.id, j.name, a.id, a.name, j.version) "
+            + "FROM JobTitle j LEFT JOIN j.area a";
+
+    @Query(value = DTO_SELECT)
+    List<JobTitleDto> findAllDtos();
+
+    @Query(value = DTO_SELECT, countQuery = "SELECT COUNT(j) FROM JobTitle j")
+    Page<JobTitleDto> findAllDtos(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = Constants.CACHE_REGION_FIND_BY_NAME)
+    })
     Optional<JobTitle> findJobTitleByName(String name);
+
+    @EntityGraph(attributePaths = "area")
+    @Query(value = "SELECT j FROM JobTitle j ORDER BY j.name, j.id")
+    Slice<JobTitle> findFirstKeysetPage(Pageable pageable);
+
+    @EntityGraph(attributePaths = "area")
+    @Query(value = "SELECT j FROM JobTitle j WHERE j.name >= :name AND (j.name > :name OR j.id > :id) ORDER BY j.name, j.id")
+    Slice<JobTitle> findKeysetPageAfter(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = "area")
+    @Query(value = "SELECT j FROM JobTitle j ORDER BY j.id")
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = Constants.STREAM_FETCH_SIZE),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    Stream<JobTitle> streamAll();
+
+    /**
+     * Set-based replacement for the Area.jobTitles cascade, run before the areas themselves are deleted.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM JobTitle j WHERE j.area.id IN :areaIds")
+    int deleteByAreaIdIn(@Param("areaIds") Collection<Long> areaIds);
 }
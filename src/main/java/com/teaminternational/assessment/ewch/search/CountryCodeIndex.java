@@ -0,0 +1,137 @@
+package com.teaminternational.assessment.ewch.search;
+
+import com.teaminternational.assessment.ewch.event.CountryChangedEvent;
+import com.teaminternational.assessment.ewch.model.dto.CountryDto;
+import com.teaminternational.assessment.ewch.service.ICountryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resolves countries by ISO 3166 alpha-2 or alpha-3 code without touching the database. Letter codes are packed
+ * into base-26 slots of two arrays (676 and 17576 entries), so a lookup is a few char operations and an array read,
+ * case-insensitive and allocation-free. The few codes with other characters (Kosovo's alpha-3 is "---") go to a
+ * small map. The tables are immutable: each write builds new ones and swaps them in with a single volatile write,
+ * so readers never see a half-built table.
+ */
+@Component
+@Lazy(false)
+public class CountryCodeIndex implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CountryCodeIndex.class);
+    private static final int LETTERS = 26;
+    private static final int NOT_A_LETTER = -1;
+
+    private final ObjectProvider<ICountryService> countryService;
+    private volatile Table table = new Table(new TreeMap<>());
+
+    public CountryCodeIndex(ObjectProvider<ICountryService> countryService) {
+        this.countryService = countryService;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        LOGGER.info("Building country code index :: build");
+        Map<Long, CountryDto> countries = new TreeMap<>();
+        countryService.getObject().streamAllCountries(country -> countries.put(country.getId(), country));
+        table = new Table(countries);
+        LOGGER.info("Country code index built. [{} countries]", countries.size());
+    }
+
+    /**
+     * Runs before the after-commit bump of the collection version, so a new ETag never tags the old table.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCountryChanged(CountryChangedEvent event) {
+        Map<Long, CountryDto> countries = new TreeMap<>(table.countries);
+        if (event.isDeleted()) {
+            countries.remove(event.getId());
+        } else {
+            countries.put(event.getId(), event.getCountry());
+        }
+        table = new Table(countries);
+    }
+
+    /**
+     * Returns the country with the given two- or three-character code, or {@code null}. The returned DTO is shared
+     * by every caller and must not be modified.
+     */
+    public CountryDto find(String code) {
+        return table.find(code);
+    }
+
+    /**
+     * Returns the indexed copy of the country, or {@code null}. Like {@link #find(String)}, it must not be modified.
+     */
+    public CountryDto findById(Long id) {
+        return table.countries.get(id);
+    }
+
+    private static final class Table {
+
+        private final Map<Long, CountryDto> countries;
+        private final CountryDto[] twoCharCodes = new CountryDto[LETTERS * LETTERS];
+        private final CountryDto[] threeCharCodes = new CountryDto[LETTERS * LETTERS * LETTERS];
+        private final Map<String, CountryDto> otherCodes = new HashMap<>();
+
+        private Table(Map<Long, CountryDto> countries) {
+            this.countries = countries;
+            for (CountryDto country : countries.values()) {
+                put(country.getTwoCharCode(), country);
+                put(country.getThreeCharCode(), country);
+            }
+        }
+
+        private void put(String code, CountryDto country) {
+            if (code == null) {
+                return;
+            }
+            int slot = slot(code);
+            if (slot == NOT_A_LETTER) {
+                otherCodes.put(code.toUpperCase(Locale.ROOT), country);
+            } else if (code.length() == 2) {
+                twoCharCodes[slot] = country;
+            } else if (code.length() == 3) {
+                threeCharCodes[slot] = country;
+            }
+        }
+
+        private CountryDto find(String code) {
+            if (code == null || code.length() < 2 || code.length() > 3) {
+                return null;
+            }
+            int slot = slot(code);
+            if (slot == NOT_A_LETTER) {
+                return otherCodes.isEmpty() ? null : otherCodes.get(code.toUpperCase(Locale.ROOT));
+            }
+            return code.length() == 2 ? twoCharCodes[slot] : threeCharCodes[slot];
+        }
+
+        /**
+         * Base-26 value of a letter code, or {@link #NOT_A_LETTER} when it holds anything but ASCII letters.
+         */
+        private static int slot(String code) {
+            int slot = 0;
+            for (int i = 0; i < code.length(); i++) {
+                int letter = (code.charAt(i) | 0x20) - 'a';
+                if (letter < 0 || letter >= LETTERS) {
+                    return NOT_A_LETTER;
+                }
+                slot = slot * LETTERS + letter;
+            }
+            return slot;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.teaminternational.assessment.ewch.search;
+
+import com.teaminternational.assessment.ewch.event.EmployeeChangedEvent;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.service.IEmployeeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory trigram index over the normalized name and username of every employee.
+ * <p>
+ * Queries of three or more characters match any substring: the postings of the query trigrams are
+ * intersected and the surviving candidates verified. Shorter queries match word prefixes through
+ * dedicated prefix grams. The index is built before the web server starts taking requests and then
+ * kept in sync from {@link EmployeeChangedEvent}s after each transaction commits.
+ * <p>
+ * Only the id and the normalized search text are kept: searches return ids, and the caller loads the
+ * employees themselves, so ages and area, job title and country names are never served stale. Writers
+ * and searches share one read-write lock, so a search never sees a half-indexed employee.
+ */
+@Component
+@Lazy(false)
+public class EmployeeSearchIndex implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeSearchIndex.class);
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final char PREFIX_MARKER = '^';
+    private static final int GRAM = 3;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ObjectProvider<IEmployeeService> employeeService;
+
+    public EmployeeSearchIndex(ObjectProvider<IEmployeeService> employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        LOGGER.info("Building employee search index :: build");
+        employeeService.getObject().streamAllEmployees(this::index);
+        lock.readLock().lock();
+        try {
+            LOGGER.info("Employee search index built. [{} employees, {} grams]", entries.size(), postings.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getId());
+        } else if (event.isPatch()) {
+            rename(event.getId(), event.getPatch().getName(), event.getPatch().getUsername());
+        } else {
+            index(event.getEmployee());
+        }
+    }
+
+    public void index(EmployeeDto employeeDto) {
+        Entry entry = new Entry(employeeDto.getId(), normalize(employeeDto.getName()), normalize(employeeDto.getUsername()));
+        lock.writeLock().lock();
+        try {
+            unindex(entry.id);
+            add(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the name or username of an indexed employee; {@code null} keeps the indexed one.
+     */
+    public void rename(Long id, String name, String username) {
+        if (name == null && username == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Entry indexed = entries.get(id);
+            if (indexed == null) {
+                return;
+            }
+            unindex(id);
+            add(new Entry(id, name == null ? indexed.name : normalize(name), username == null ? indexed.username : normalize(username)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the matching employees, best match first.
+     */
+    public Page<Long> search(String query, Pageable pageable) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : candidates(normalized)) {
+                Entry entry = entries.get(id);
+                int score = entry == null ? 0 : entry.score(normalized);
+                if (score > 0) {
+                    matches.add(new Match(entry, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Match.ORDER);
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        List<Long> content = new ArrayList<>(to - from);
+        for (Match match : matches.subList(from, to)) {
+            content.add(match.entry.id);
+        }
+        return new PageImpl<>(content, pageable, matches.size());
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.id, entry);
+        for (String gram : grams(entry)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(entry.id);
+        }
+    }
+
+    private void unindex(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (String gram : grams(entry)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private Collection<Long> candidates(String query) {
+        if (query.length() < GRAM) {
+            return postings.getOrDefault(PREFIX_MARKER + query, Collections.emptySet());
+        }
+        List<Set<Long>> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM <= query.length(); i++) {
+            Set<Long> ids = postings.get(query.substring(i, i + GRAM));
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private static Set<String> grams(Entry entry) {
+        Set<String> grams = new HashSet<>();
+        addGrams(grams, entry.name);
+        addGrams(grams, entry.username);
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String value) {
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        for (String token : WHITESPACE.split(value)) {
+            for (int length = 1; length < GRAM && length <= token.length(); length++) {
+                grams.add(PREFIX_MARKER + token.substring(0, length));
+            }
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        String plain = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(plain.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+
+        private final Long id;
+        private final String name;
+        private final String username;
+
+        private Entry(Long id, String name, String username) {
+            this.id = id;
+            this.name = name;
+            this.username = username;
+        }
+
+        /**
+         * Exact matches rank above prefixes, prefixes above word prefixes and those above plain substrings.
+         */
+        private int score(String query) {
+            return Math.max(score(username, query), score(name, query));
+        }
+
+        private static int score(String value, String query) {
+            if (value.equals(query)) {
+                return 4;
+            }
+            if (value.startsWith(query)) {
+                return 3;
+            }
+            int index = value.indexOf(query);
+            while (index > 0) {
+                if (value.charAt(index - 1) == ' ') {
+                    return 2;
+                }
+                index = value.indexOf(query, index + 1);
+            }
+            return query.length() >= GRAM && value.contains(query) ? 1 : 0;
+        }
+    }
+
+    private static final class Match {
+
+        private static final Comparator<Match> ORDER = Comparator.<Match>comparingInt(match -> -match.score)
+                .thenComparingInt(match -> match.entry.name.length())
+                .thenComparing(match -> match.entry.id);
+
+        private final Entry entry;
+        private final int score;
+
+        private Match(Entry entry, int score) {
+            this.entry = entry;
+            this.score = score;
+        }
+    }
+}
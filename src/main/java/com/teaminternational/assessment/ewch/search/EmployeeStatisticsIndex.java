@@ -0,0 +1,272 @@
+package com.teaminternational.assessment.ewch.search;
+
+import com.teaminternational.assessment.ewch.event.CountryChangedEvent;
+import com.teaminternational.assessment.ewch.event.EmployeeChangedEvent;
+import com.teaminternational.assessment.ewch.event.ReferenceRenamedEvent;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.model.dto.EmployeePatchDto;
+import com.teaminternational.assessment.ewch.model.dto.GroupStatisticsDto;
+import com.teaminternational.assessment.ewch.model.entity.Area;
+import com.teaminternational.assessment.ewch.model.entity.JobTitle;
+import com.teaminternational.assessment.ewch.service.IEmployeeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Headcount and tip rate aggregates per area, job title, country and status, kept in sync from
+ * {@link EmployeeChangedEvent}s after each transaction commits.
+ * <p>
+ * Every group holds its headcount, the sum of its tip rates in cents and a sorted multiset of those rates, so a write
+ * moves one employee between groups in O(log n) and reading a dimension costs O(groups). The last known groups of
+ * every employee are kept to take it out of them again on an update or delete. Renamed areas, job titles and countries
+ * are renamed in place from their own events.
+ */
+@Component
+@Lazy(false)
+public class EmployeeStatisticsIndex implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeStatisticsIndex.class);
+
+    public enum Dimension {
+        AREA, JOB_TITLE, COUNTRY, STATUS
+    }
+
+    private final ObjectProvider<IEmployeeService> employeeService;
+    private State state = new State();
+    private long writes;
+
+    public EmployeeStatisticsIndex(ObjectProvider<IEmployeeService> employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        LOGGER.info("Building employee statistics :: build");
+        rebuild(writes());
+        LOGGER.info("Employee statistics built.");
+    }
+
+    /**
+     * A patch of the status or tip rate is applied to the employee's last known groups. One that moves the employee
+     * to another job title or country does not carry the new area or names, so the committed row is read back here.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeePatchDto patch = event.getPatch();
+        if (patch != null && (patch.getJobTitleId() != null || patch.getCountryId() != null)) {
+            Optional<EmployeeDto> employeeDto = employeeService.getObject().lookupEmployeeById(event.getId());
+            apply(event.getId(), employeeDto.orElse(null), null);
+        } else {
+            apply(event.getId(), event.getEmployee(), patch);
+        }
+    }
+
+    private synchronized void apply(Long id, EmployeeDto employeeDto, EmployeePatchDto patch) {
+        writes++;
+        if (patch != null) {
+            state.patch(id, patch.getStatus(), patch.getTipRate());
+        } else if (employeeDto == null) {
+            state.remove(id);
+        } else {
+            state.put(employeeDto);
+        }
+    }
+
+    /**
+     * Renames count as writes too, so a rebuild started before one does not bring back the old name.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onReferenceRenamed(ReferenceRenamedEvent event) {
+        writes++;
+        if (Area.class.equals(event.getType())) {
+            state.rename(Dimension.AREA, event.getId(), event.getName());
+        } else if (JobTitle.class.equals(event.getType())) {
+            state.rename(Dimension.JOB_TITLE, event.getId(), event.getName());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCountryChanged(CountryChangedEvent event) {
+        writes++;
+        if (!event.isDeleted()) {
+            state.rename(Dimension.COUNTRY, event.getId(), event.getCountry().getName());
+        }
+    }
+
+    /**
+     * Number of changes applied so far, to tell whether any arrived while the index was being compared or rebuilt.
+     */
+    public synchronized long writes() {
+        return writes;
+    }
+
+    public synchronized List<GroupStatisticsDto> find(Dimension dimension) {
+        return state.find(dimension);
+    }
+
+    /**
+     * Whether every dimension holds exactly the given groups, in any order.
+     */
+    public synchronized boolean matches(Map<Dimension, List<GroupStatisticsDto>> expected) {
+        for (Dimension dimension : Dimension.values()) {
+            if (!new HashSet<>(state.find(dimension)).equals(new HashSet<>(expected.get(dimension)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rebuilds the aggregates from every employee and swaps them in, unless a change was applied after
+     * {@code expectedWrites}: the rebuilt copy might then predate it, and the current one is kept.
+     */
+    public boolean rebuild(long expectedWrites) {
+        State rebuilt = new State();
+        employeeService.getObject().streamAllEmployees(rebuilt::put);
+        synchronized (this) {
+            if (writes != expectedWrites) {
+                return false;
+            }
+            state = rebuilt;
+            return true;
+        }
+    }
+
+    private static long cents(double tipRate) {
+        return Math.round(tipRate * 100);
+    }
+
+    private static final class Member {
+
+        private final Object[] keys;
+        private final long tipRate;
+
+        private Member(Object[] keys, long tipRate) {
+            this.keys = keys;
+            this.tipRate = tipRate;
+        }
+    }
+
+    private static final class Group {
+
+        private String name;
+        private long headcount;
+        private long tipRateSum;
+        private final TreeMap<Long, Integer> tipRates = new TreeMap<>();
+
+        private void add(long tipRate) {
+            headcount++;
+            tipRateSum += tipRate;
+            tipRates.merge(tipRate, 1, Integer::sum);
+        }
+
+        private void remove(long tipRate) {
+            headcount--;
+            tipRateSum -= tipRate;
+            tipRates.computeIfPresent(tipRate, (rate, count) -> count == 1 ? null : count - 1);
+        }
+
+        private GroupStatisticsDto toDto(Object key) {
+            double min = tipRates.firstKey() / 100.0;
+            double max = tipRates.lastKey() / 100.0;
+            if (key instanceof Boolean) {
+                return new GroupStatisticsDto((Boolean) key, headcount, tipRateSum / 100.0, min, max);
+            }
+            return new GroupStatisticsDto((Long) key, name, headcount, tipRateSum / 100.0, min, max);
+        }
+    }
+
+    private static final class State {
+
+        private final Map<Long, Member> members = new HashMap<>();
+        private final Map<Dimension, Map<Object, Group>> groups = new EnumMap<>(Dimension.class);
+
+        private State() {
+            for (Dimension dimension : Dimension.values()) {
+                groups.put(dimension, new HashMap<>());
+            }
+        }
+
+        private void put(EmployeeDto employeeDto) {
+            remove(employeeDto.getId());
+            Object[] keys = {employeeDto.getAreaId(), employeeDto.getJobTitleId(), employeeDto.getCountryId(),
+                    Boolean.TRUE.equals(employeeDto.getStatus())};
+            String[] names = {employeeDto.getAreaName(), employeeDto.getJobTitleName(), employeeDto.getCountryName(), null};
+            add(employeeDto.getId(), keys, names, cents(employeeDto.getTipRate()));
+        }
+
+        /**
+         * Moves a known employee to its new status group and tip rate; {@code null} keeps the current one.
+         */
+        private void patch(Long id, Boolean status, Double tipRate) {
+            Member member = members.get(id);
+            if (member == null || (status == null && tipRate == null)) {
+                return;
+            }
+            Object[] keys = member.keys.clone();
+            String[] names = new String[keys.length];
+            for (Dimension dimension : Dimension.values()) {
+                names[dimension.ordinal()] = groups.get(dimension).get(keys[dimension.ordinal()]).name;
+            }
+            if (status != null) {
+                keys[Dimension.STATUS.ordinal()] = status;
+            }
+            remove(id);
+            add(id, keys, names, tipRate == null ? member.tipRate : cents(tipRate));
+        }
+
+        private void add(Long id, Object[] keys, String[] names, long tipRate) {
+            Member member = new Member(keys, tipRate);
+            members.put(id, member);
+            for (Dimension dimension : Dimension.values()) {
+                Group group = groups.get(dimension).computeIfAbsent(keys[dimension.ordinal()], key -> new Group());
+                group.name = names[dimension.ordinal()];
+                group.add(member.tipRate);
+            }
+        }
+
+        private void remove(Long id) {
+            Member member = members.remove(id);
+            if (member == null) {
+                return;
+            }
+            for (Dimension dimension : Dimension.values()) {
+                Map<Object, Group> dimensionGroups = groups.get(dimension);
+                Group group = dimensionGroups.get(member.keys[dimension.ordinal()]);
+                group.remove(member.tipRate);
+                if (group.headcount == 0) {
+                    dimensionGroups.remove(member.keys[dimension.ordinal()]);
+                }
+            }
+        }
+
+        private void rename(Dimension dimension, Long id, String name) {
+            Group group = groups.get(dimension).get(id);
+            if (group != null) {
+                group.name = name;
+            }
+        }
+
+        private List<GroupStatisticsDto> find(Dimension dimension) {
+            List<GroupStatisticsDto> statistics = new ArrayList<>(groups.get(dimension).size());
+            groups.get(dimension).forEach((key, group) -> statistics.add(group.toDto(key)));
+            statistics.sort(Comparator.comparing(GroupStatisticsDto::getId, Comparator.nullsFirst(Comparator.naturalOrder())));
+            return statistics;
+        }
+    }
+}
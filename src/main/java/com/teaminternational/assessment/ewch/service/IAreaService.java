@@ -4,7 +4,9 @@ import com.teaminternational.assessment.ewch.model.dto.AreaDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface IAreaService {
 
@@ -12,14 +14,28 @@ public interface IAreaService {
 
     Page<AreaDto> findAllAreas(Pageable pageable);
 
+    String findAllAreasETag();
+
+    String findAreaETag(Long id);
+
     AreaDto findAreaById(Long id);
 
     AreaDto findAreaByName(String name);
 
+    Optional<String> lookupAreaETag(Long id);
+
+    Optional<AreaDto> lookupAreaById(Long id);
+
+    Optional<AreaDto> lookupAreaByName(String name);
+
     AreaDto createArea(AreaDto areaDto);
 
-    AreaDto updateArea(AreaDto areaDto, Long id);
+    AreaDto updateArea(AreaDto areaDto, Long id, Long expectedVersion);
+
+    void patchArea(AreaDto areaDto, Long id, Long expectedVersion);
+
+    int deleteArea(Long id);
 
-    AreaDto deleteArea(Long id);
+    int deleteAreas(Collection<Long> ids);
 
 }
@@ -0,0 +1,10 @@
+package com.teaminternational.assessment.ewch.service;
+
+import com.teaminternational.assessment.ewch.model.dto.CacheStatisticsDto;
+
+import java.util.List;
+
+public interface ICacheStatisticsService {
+
+    List<CacheStatisticsDto> findAllCacheStatistics();
+}
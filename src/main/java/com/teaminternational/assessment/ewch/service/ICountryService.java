@@ -1,10 +1,13 @@
 package com.teaminternational.assessment.ewch.service;
 
 import com.teaminternational.assessment.ewch.model.dto.CountryDto;
+import com.teaminternational.assessment.ewch.model.dto.CursorPageDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ICountryService {
 
@@ -12,13 +15,33 @@ public interface ICountryService {
 
     Page<CountryDto> findAllCountries(Pageable pageable);
 
+    CursorPageDto<CountryDto> findAllCountries(String cursor, int size, boolean approximateTotal);
+
+    void streamAllCountries(Consumer<CountryDto> consumer);
+
+    String findAllCountriesETag();
+
+    String findCountryETag(Long id);
+
     CountryDto findCountryById(Long id);
 
     CountryDto findCountryByName(String name);
 
+    CountryDto findCountryByCode(String code);
+
+    Optional<String> lookupCountryETag(Long id);
+
+    Optional<CountryDto> lookupCountryById(Long id);
+
+    Optional<CountryDto> lookupCountryByName(String name);
+
+    Optional<CountryDto> lookupCountryByCode(String code);
+
     CountryDto createCountry(CountryDto countryDto);
 
-    CountryDto updateCountry(CountryDto countryDto, Long id);
+    CountryDto updateCountry(CountryDto countryDto, Long id, Long expectedVersion);
+
+    void patchCountry(CountryDto countryDto, Long id, Long expectedVersion);
 
     CountryDto deleteCountry(Long id);
 
@@ -1,10 +1,16 @@
 package com.teaminternational.assessment.ewch.service;
 
+import com.teaminternational.assessment.ewch.model.dto.BulkResultDto;
+import com.teaminternational.assessment.ewch.model.dto.CursorPageDto;
 import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.model.dto.EmployeePatchDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface IEmployeeService {
 
@@ -12,15 +18,43 @@ public interface IEmployeeService {
 
     Page<EmployeeDto> findAllEmployees(Pageable pageable);
 
+    CursorPageDto<EmployeeDto> findAllEmployees(String cursor, int size, boolean approximateTotal);
+
+    void streamAllEmployees(Consumer<EmployeeDto> consumer);
+
+    String findEmployeeETag(Long id);
+
     EmployeeDto findEmployeeById(Long id);
 
     EmployeeDto findEmployeeByUsername(String username);
 
+    Optional<String> lookupEmployeeETag(Long id);
+
+    long findEmployeeReferenceVersion();
+
+    Optional<EmployeeDto> lookupEmployeeById(Long id);
+
+    Optional<EmployeeDto> lookupEmployeeByUsername(String username);
+
     EmployeeDto findEmployeeByNameOrUsername(String nameOrUsername);
 
+    Page<EmployeeDto> searchEmployees(String query, Pageable pageable);
+
+    Page<EmployeeDto> findEmployeesByAge(int minAge, int maxAge, Pageable pageable);
+
+    List<EmployeeDto> findUpcomingBirthdays(int days);
+
+    List<EmployeeDto> findUpcomingHireAnniversaries(int days);
+
     EmployeeDto createEmployee(EmployeeDto employeeDto);
 
-    EmployeeDto updateEmployee(EmployeeDto employeeDto, Long id);
+    EmployeeDto updateEmployee(EmployeeDto employeeDto, Long id, Long expectedVersion);
+
+    void patchEmployee(EmployeePatchDto employeePatchDto, Long id, Long expectedVersion);
+
+    BulkResultDto bulkSaveEmployees(List<EmployeeDto> employeeDtos);
+
+    int deleteEmployee(Long id);
 
-    EmployeeDto deleteEmployee(Long id);
+    int deleteEmployees(Collection<Long> ids);
 }
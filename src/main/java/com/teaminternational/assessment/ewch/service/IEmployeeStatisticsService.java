@@ -0,0 +1,21 @@
+package com.teaminternational.assessment.ewch.service;
+
+import com.teaminternational.assessment.ewch.model.dto.GroupStatisticsDto;
+
+import java.util.List;
+import java.util.Map;
+
+public interface IEmployeeStatisticsService {
+
+    Map<String, List<GroupStatisticsDto>> findAllStatistics();
+
+    List<GroupStatisticsDto> findAreaStatistics();
+
+    List<GroupStatisticsDto> findJobTitleStatistics();
+
+    List<GroupStatisticsDto> findCountryStatistics();
+
+    List<GroupStatisticsDto> findStatusStatistics();
+
+    boolean reconcile();
+}
@@ -1,10 +1,13 @@
 package com.teaminternational.assessment.ewch.service;
 
+import com.teaminternational.assessment.ewch.model.dto.CursorPageDto;
 import com.teaminternational.assessment.ewch.model.dto.JobTitleDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface IJobTitleService {
 
@@ -12,13 +15,29 @@ public interface IJobTitleService {
 
     Page<JobTitleDto> findAllJobTitles(Pageable pageable);
 
+    CursorPageDto<JobTitleDto> findAllJobTitles(String cursor, int size, boolean approximateTotal);
+
+    void streamAllJobTitles(Consumer<JobTitleDto> consumer);
+
+    String findAllJobTitlesETag();
+
+    String findJobTitleETag(Long id);
+
     JobTitleDto findJobTitleById(Long id);
 
     JobTitleDto findJobTitleByName(String name);
 
+    Optional<String> lookupJobTitleETag(Long id);
+
+    Optional<JobTitleDto> lookupJobTitleById(Long id);
+
+    Optional<JobTitleDto> lookupJobTitleByName(String name);
+
     JobTitleDto createJobTitle(JobTitleDto jobTitleDto);
 
-    JobTitleDto updateJobTitle(JobTitleDto jobTitleDto, Long id);
+    JobTitleDto updateJobTitle(JobTitleDto jobTitleDto, Long id, Long expectedVersion);
+
+    void patchJobTitle(JobTitleDto jobTitleDto, Long id, Long expectedVersion);
 
     JobTitleDto deleteJobTitle(Long id);
 
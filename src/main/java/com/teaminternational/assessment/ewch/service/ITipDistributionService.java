@@ -0,0 +1,12 @@
+package com.teaminternational.assessment.ewch.service;
+
+import com.teaminternational.assessment.ewch.model.dto.AreaTipDistributionDto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+public interface ITipDistributionService {
+
+    List<AreaTipDistributionDto> distributeTips(Map<Long, BigDecimal> pools);
+}
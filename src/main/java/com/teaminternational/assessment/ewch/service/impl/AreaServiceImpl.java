@@ -1,15 +1,24 @@
 package com.teaminternational.assessment.ewch.service.impl;
 
+import com.teaminternational.assessment.ewch.event.CollectionVersionListener;
+import com.teaminternational.assessment.ewch.event.ReferenceRenamedEvent;
+import com.teaminternational.assessment.ewch.exception.PreconditionFailedException;
 import com.teaminternational.assessment.ewch.exception.ResourceNotFoundException;
+import com.teaminternational.assessment.ewch.mapper.IAreaMapper;
 import com.teaminternational.assessment.ewch.model.dto.AreaDto;
+import com.teaminternational.assessment.ewch.model.dto.JobTitleDto;
 import com.teaminternational.assessment.ewch.model.entity.Area;
+import com.teaminternational.assessment.ewch.model.entity.JobTitle;
 import com.teaminternational.assessment.ewch.repository.IAreaDao;
+import com.teaminternational.assessment.ewch.repository.IJobTitleDao;
 import com.teaminternational.assessment.ewch.service.IAreaService;
+import com.teaminternational.assessment.ewch.utils.ETags;
 import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import com.teaminternational.assessment.ewch.utils.PartialUpdate;
 import com.teaminternational.assessment.ewch.utils.Validations;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.RecoverableDataAccessException;
@@ -18,9 +27,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 public class AreaServiceImpl implements IAreaService {
@@ -28,19 +43,34 @@ public class AreaServiceImpl implements IAreaService {
     private static final Logger LOGGER = LoggerFactory.getLogger(AreaServiceImpl.class);
 
     private final IAreaDao areaDao;
-    private final ModelMapper modelMapper;
+    private final IJobTitleDao jobTitleDao;
+    private final IAreaMapper areaMapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AreaServiceImpl(IAreaDao areaDao, ModelMapper modelMapper) {
+    public AreaServiceImpl(IAreaDao areaDao, IJobTitleDao jobTitleDao, IAreaMapper areaMapper, EntityManager entityManager,
+                           ApplicationEventPublisher eventPublisher) {
         this.areaDao = areaDao;
-        this.modelMapper = modelMapper;
+        this.jobTitleDao = jobTitleDao;
+        this.areaMapper = areaMapper;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<AreaDto> findAllAreas() {
         LOGGER.info("Getting all areas :: findAllAreas");
-        return areaDao.findAll().stream()
-                .map(area -> modelMapper.map(area, AreaDto.class)).collect(Collectors.toList());
+        Map<Long, AreaDto> areas = new LinkedHashMap<>();
+        for (IAreaDao.AreaJobTitleView row : areaDao.findAllAreaJobTitles()) {
+            AreaDto areaDto = areas.computeIfAbsent(row.getAreaId(),
+                    areaId -> new AreaDto(areaId, row.getAreaName(), new ArrayList<>(), row.getAreaVersion()));
+            if (row.getJobTitleId() != null) {
+                areaDto.getJobTitles().add(new JobTitleDto(row.getJobTitleId(), row.getJobTitleName(),
+                        areaDto.getId(), areaDto.getName(), row.getJobTitleVersion()));
+            }
+        }
+        return new ArrayList<>(areas.values());
     }
 
     @Override
@@ -48,27 +78,63 @@ public class AreaServiceImpl implements IAreaService {
     public Page<AreaDto> findAllAreas(Pageable pageable) {
         LOGGER.info("Getting all areas :: findAllAreas Pageable");
         return areaDao.findAll(pageable)
-                .map(area -> modelMapper.map(area, AreaDto.class));
+                .map(areaMapper::toDto);
+    }
+
+    @Override
+    public String findAllAreasETag() {
+        return ETags.ofCollection(CollectionVersionListener.version(Area.class) + CollectionVersionListener.version(JobTitle.class));
+    }
+
+    /**
+     * An area embeds its job titles, which are the inverse side of the relation and do not bump the area version.
+     * Looks the area up by primary key so the version comes from the second-level cache.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String findAreaETag(Long id) {
+        return lookupAreaETag(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.AREA_NOT_FOUND_WITH_ID.concat(id.toString())));
     }
 
     @Override
     @Transactional(readOnly = true)
     public AreaDto findAreaById(Long id) {
-        LOGGER.info("Getting area by id :: findAreaById");
-        Area area = areaDao.findById(id)
+        return lookupAreaById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.AREA_NOT_FOUND_WITH_ID.concat(id.toString())));
-        LOGGER.info("Returning area by id. [{}]", area);
-        return modelMapper.map(area, AreaDto.class);
     }
 
     @Override
     @Transactional(readOnly = true)
     public AreaDto findAreaByName(String name) {
-        LOGGER.info("Getting area by name :: findAreaByName");
-        Area area = areaDao.findAreaByName(name)
+        return lookupAreaByName(name)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.AREA_NOT_FOUND_WITH_USERNAME.concat(name)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> lookupAreaETag(Long id) {
+        LOGGER.info("Getting area version by id :: lookupAreaETag");
+        return Optional.ofNullable(entityManager.find(Area.class, id))
+                .map(area -> ETags.of(id, area.getVersion(), CollectionVersionListener.version(JobTitle.class)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<AreaDto> lookupAreaById(Long id) {
+        LOGGER.info("Getting area by id :: lookupAreaById");
+        Optional<Area> area = areaDao.findById(id);
+        LOGGER.info("Returning area by id. [{}]", area);
+        return area.map(areaMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<AreaDto> lookupAreaByName(String name) {
+        LOGGER.info("Getting area by name :: lookupAreaByName");
+        Optional<Area> area = areaDao.findAreaByName(name);
         LOGGER.info("Returning area by name. [{}]", area);
-        return modelMapper.map(area, AreaDto.class);
+        return area.map(areaMapper::toDto);
     }
 
     @Override
@@ -78,37 +144,84 @@ public class AreaServiceImpl implements IAreaService {
         Area newArea;
         AreaDto newAreaDto;
         Validations.validateFieldsAreaDto(areaDto);
-        newArea = areaDao.save(modelMapper.map(areaDto, Area.class));
-        newAreaDto = modelMapper.map(newArea, AreaDto.class);
+        newArea = areaMapper.toEntity(areaDto);
+        linkJobTitles(newArea);
+        newArea = areaDao.saveAndFlush(newArea);
+        newAreaDto = areaMapper.toDto(newArea);
         LOGGER.info("New created area. [{}]", newAreaDto);
         return newAreaDto;
     }
 
     @Override
     @Transactional
-    public AreaDto updateArea(AreaDto areaDto, Long id) {
+    public AreaDto updateArea(AreaDto areaDto, Long id, Long expectedVersion) {
         LOGGER.info("Updating area :: updateArea");
         AreaDto updatedArea;
         AreaDto currentArea = findAreaById(id);
+        if (expectedVersion != null && !expectedVersion.equals(currentArea.getVersion())) {
+            throw new PreconditionFailedException(ErrorMessages.PRECONDITION_FAILED);
+        }
         Validations.validateFieldsAreaDto(areaDto);
         Validations.validateFieldsAreaDto(currentArea);
         currentArea.setName(areaDto.getName());
         updatedArea = createArea(currentArea);
+        eventPublisher.publishEvent(new ReferenceRenamedEvent(Area.class, id, updatedArea.getName()));
         LOGGER.info("Updated area. [{}]", updatedArea);
         return updatedArea;
     }
 
     @Override
     @Transactional
-    public AreaDto deleteArea(Long id) {
+    public void patchArea(AreaDto areaDto, Long id, Long expectedVersion) {
+        LOGGER.info("Patching area :: patchArea");
+        Validations.validatePatchAreaDto(areaDto);
+        new PartialUpdate<>(entityManager, Area.class)
+                .set("name", areaDto.getName())
+                .execute(id, expectedVersion, ErrorMessages.AREA_NOT_FOUND_WITH_ID);
+        CollectionVersionListener.changed(Area.class);
+        if (areaDto.getName() != null) {
+            eventPublisher.publishEvent(new ReferenceRenamedEvent(Area.class, id, areaDto.getName()));
+        }
+        LOGGER.info("Patched area. [{}]", id);
+    }
+
+    @Override
+    @Transactional
+    public int deleteArea(Long id) {
         LOGGER.info("Deleting area :: deleteArea");
-        AreaDto deletedArea = null;
-        Optional<Area> currentArea = areaDao.findById(id);
-        if (currentArea.isPresent()) {
-            areaDao.delete(currentArea.get());
-            deletedArea = modelMapper.map(currentArea.get(), AreaDto.class);
-            LOGGER.info("Deleted area. [{}]", currentArea.get());
+        return deleteAreas(Collections.singleton(id));
+    }
+
+    /**
+     * Replaces the Area.jobTitles cascade with one set-based delete of the job titles, then one of the areas,
+     * without loading either. Hibernate evicts the cached areas, job titles and area collections on a bulk delete.
+     */
+    @Override
+    @Transactional
+    public int deleteAreas(Collection<Long> ids) {
+        LOGGER.info("Deleting areas :: deleteAreas [{}]", ids.size());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deletedJobTitles = jobTitleDao.deleteByAreaIdIn(ids);
+        int deleted = areaDao.deleteByIdIn(ids);
+        if (deletedJobTitles > 0) {
+            CollectionVersionListener.changed(JobTitle.class);
+        }
+        if (deleted > 0) {
+            CollectionVersionListener.changed(Area.class);
+        }
+        LOGGER.info("Deleted areas. [areas={}, jobTitles={}]", deleted, deletedJobTitles);
+        return deleted;
+    }
+
+    /**
+     * The mapper builds each job title's area from its id alone, without a version, which Hibernate would take
+     * for a new area. Pointing them at the area being saved keeps the merge on the existing row.
+     */
+    private static void linkJobTitles(Area area) {
+        if (area.getJobTitles() != null) {
+            area.getJobTitles().forEach(jobTitle -> jobTitle.setArea(area));
         }
-        return deletedArea;
     }
 }
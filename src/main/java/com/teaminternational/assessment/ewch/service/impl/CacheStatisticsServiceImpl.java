@@ -0,0 +1,49 @@
+package com.teaminternational.assessment.ewch.service.impl;
+
+import com.teaminternational.assessment.ewch.model.dto.CacheStatisticsDto;
+import com.teaminternational.assessment.ewch.service.ICacheStatisticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Reads the JSR-107 statistics MBeans that Ehcache registers for every second-level cache region.
+ */
+@Service
+public class CacheStatisticsServiceImpl implements ICacheStatisticsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheStatisticsServiceImpl.class);
+    private static final String CACHE_STATISTICS_QUERY = "javax.cache:type=CacheStatistics,*";
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    @Override
+    public List<CacheStatisticsDto> findAllCacheStatistics() {
+        LOGGER.info("Getting cache statistics :: findAllCacheStatistics");
+        List<CacheStatisticsDto> statistics = new ArrayList<>();
+        try {
+            for (ObjectName name : mBeanServer.queryNames(new ObjectName(CACHE_STATISTICS_QUERY), null)) {
+                statistics.add(new CacheStatisticsDto(
+                        name.getKeyProperty("Cache"),
+                        (Long) mBeanServer.getAttribute(name, "CacheHits"),
+                        (Long) mBeanServer.getAttribute(name, "CacheMisses"),
+                        (Long) mBeanServer.getAttribute(name, "CachePuts"),
+                        (Long) mBeanServer.getAttribute(name, "CacheRemovals"),
+                        (Long) mBeanServer.getAttribute(name, "CacheEvictions"),
+                        (Float) mBeanServer.getAttribute(name, "CacheHitPercentage")));
+            }
+        } catch (JMException jme) {
+            LOGGER.error("Error reading cache statistics.", jme);
+        }
+        statistics.sort(Comparator.comparing(CacheStatisticsDto::getRegion));
+        return statistics;
+    }
+}
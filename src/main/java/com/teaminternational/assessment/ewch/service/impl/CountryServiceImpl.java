@@ -1,23 +1,39 @@
 package com.teaminternational.assessment.ewch.service.impl;
 
+import com.teaminternational.assessment.ewch.event.CollectionVersionListener;
+import com.teaminternational.assessment.ewch.event.CountryChangedEvent;
+import com.teaminternational.assessment.ewch.exception.PreconditionFailedException;
 import com.teaminternational.assessment.ewch.exception.ResourceNotFoundException;
+import com.teaminternational.assessment.ewch.mapper.ICountryMapper;
 import com.teaminternational.assessment.ewch.model.dto.CountryDto;
+import com.teaminternational.assessment.ewch.model.dto.CursorPageDto;
 import com.teaminternational.assessment.ewch.model.entity.Country;
 import com.teaminternational.assessment.ewch.repository.ICountryDao;
+import com.teaminternational.assessment.ewch.search.CountryCodeIndex;
 import com.teaminternational.assessment.ewch.service.ICountryService;
+import com.teaminternational.assessment.ewch.utils.CachedCount;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import com.teaminternational.assessment.ewch.utils.Cursor;
+import com.teaminternational.assessment.ewch.utils.ETags;
 import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import com.teaminternational.assessment.ewch.utils.PartialUpdate;
 import com.teaminternational.assessment.ewch.utils.Validations;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class CountryServiceImpl implements ICountryService {
@@ -25,11 +41,19 @@ public class CountryServiceImpl implements ICountryService {
     private static final Logger LOGGER = LoggerFactory.getLogger(CountryServiceImpl.class);
 
     private final ICountryDao countryDao;
-    private final ModelMapper modelMapper;
+    private final ICountryMapper countryMapper;
+    private final EntityManager entityManager;
+    private final CountryCodeIndex countryCodeIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CachedCount countryCount = new CachedCount(Constants.APPROXIMATE_TOTAL_TTL_MILLIS);
 
-    public CountryServiceImpl(ICountryDao countryDao, ModelMapper modelMapper) {
+    public CountryServiceImpl(ICountryDao countryDao, ICountryMapper countryMapper, EntityManager entityManager,
+                              CountryCodeIndex countryCodeIndex, ApplicationEventPublisher eventPublisher) {
         this.countryDao = countryDao;
-        this.modelMapper = modelMapper;
+        this.countryMapper = countryMapper;
+        this.entityManager = entityManager;
+        this.countryCodeIndex = countryCodeIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -37,7 +61,7 @@ public class CountryServiceImpl implements ICountryService {
     public List<CountryDto> findAllCountries() {
         LOGGER.info("Getting all countries :: findAllCountries");
         return countryDao.findAll().stream()
-                .map(country -> modelMapper.map(country, CountryDto.class)).collect(Collectors.toList());
+                .map(countryMapper::toDto).collect(Collectors.toList());
     }
 
     @Override
@@ -45,27 +69,97 @@ public class CountryServiceImpl implements ICountryService {
     public Page<CountryDto> findAllCountries(Pageable pageable) {
         LOGGER.info("Getting all countries :: findAllCountries Pageable");
         return countryDao.findAll(pageable)
-                .map(country -> modelMapper.map(country, CountryDto.class));
+                .map(countryMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<CountryDto> findAllCountries(String cursor, int size, boolean approximateTotal) {
+        LOGGER.info("Getting all countries :: findAllCountries Cursor");
+        Slice<Country> slice;
+        if (cursor == null || cursor.isEmpty()) {
+            slice = countryDao.findFirstKeysetPage(Cursor.pageable(size));
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            slice = countryDao.findKeysetPageAfter(after.getSortKey(), after.getId(), Cursor.pageable(size));
+        }
+        Long total = approximateTotal ? countryCount.get(countryDao::count) : null;
+        return Cursor.toPage(slice, countryMapper::toDto, country -> new Cursor(country.getName(), country.getId()), total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllCountries(Consumer<CountryDto> consumer) {
+        LOGGER.info("Streaming all countries :: streamAllCountries");
+        try (Stream<Country> countries = countryDao.streamAll()) {
+            countries.forEach(country -> {
+                consumer.accept(countryMapper.toDto(country));
+                entityManager.detach(country);
+            });
+        }
+    }
+
+    @Override
+    public String findAllCountriesETag() {
+        return ETags.ofCollection(CollectionVersionListener.version(Country.class));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findCountryETag(Long id) {
+        return lookupCountryETag(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID.concat(id.toString())));
     }
 
     @Override
     @Transactional(readOnly = true)
     public CountryDto findCountryById(Long id) {
-        LOGGER.info("Getting country by id :: findCountryById");
-        Country country = countryDao.findById(id)
+        return lookupCountryById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID.concat(id.toString())));
-        LOGGER.info("Returning country by id. [{}]", country);
-        return modelMapper.map(country, CountryDto.class);
     }
 
     @Override
     @Transactional(readOnly = true)
     public CountryDto findCountryByName(String username) {
-        LOGGER.info("Getting country by name :: findCountryByName");
-        Country country = countryDao.findCountryByName(username)
+        return lookupCountryByName(username)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.COUNTRY_NOT_FOUND_WITH_NAME.concat(username)));
+    }
+
+    @Override
+    public CountryDto findCountryByCode(String code) {
+        return lookupCountryByCode(code)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.COUNTRY_NOT_FOUND_WITH_CODE.concat(String.valueOf(code))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> lookupCountryETag(Long id) {
+        LOGGER.info("Getting country version by id :: lookupCountryETag");
+        return countryDao.findById(id).map(country -> ETags.of(id, country.getVersion(), 0L));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CountryDto> lookupCountryById(Long id) {
+        LOGGER.info("Getting country by id :: lookupCountryById");
+        Optional<Country> country = countryDao.findById(id);
+        LOGGER.info("Returning country by id. [{}]", country);
+        return country.map(countryMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CountryDto> lookupCountryByName(String name) {
+        LOGGER.info("Getting country by name :: lookupCountryByName");
+        Optional<Country> country = countryDao.findCountryByName(name);
         LOGGER.info("Returning country by name. [{}]", country);
-        return modelMapper.map(country, CountryDto.class);
+        return country.map(countryMapper::toDto);
+    }
+
+    @Override
+    public Optional<CountryDto> lookupCountryByCode(String code) {
+        LOGGER.info("Getting country by code :: lookupCountryByCode");
+        return Optional.ofNullable(countryCodeIndex.find(code));
     }
 
     @Override
@@ -75,18 +169,23 @@ public class CountryServiceImpl implements ICountryService {
         Country newCountry;
         CountryDto newCountryDto;
         Validations.validateFieldsCountryDto(countryDto);
-        newCountry = countryDao.save(modelMapper.map(countryDto, Country.class));
-        newCountryDto = modelMapper.map(newCountry, CountryDto.class);
+        newCountry = countryDao.saveAndFlush(countryMapper.toEntity(countryDto));
+        newCountryDto = countryMapper.toDto(newCountry);
+        countryCount.invalidate();
+        eventPublisher.publishEvent(new CountryChangedEvent(newCountryDto.getId(), newCountryDto));
         LOGGER.info("New created country. [{}]", newCountryDto);
         return newCountryDto;
     }
 
     @Override
     @Transactional
-    public CountryDto updateCountry(CountryDto countryDto, Long id) {
+    public CountryDto updateCountry(CountryDto countryDto, Long id, Long expectedVersion) {
         LOGGER.info("Updating country :: updateCountry");
         CountryDto updatedCountry;
         CountryDto currentCountry = findCountryById(id);
+        if (expectedVersion != null && !expectedVersion.equals(currentCountry.getVersion())) {
+            throw new PreconditionFailedException(ErrorMessages.PRECONDITION_FAILED);
+        }
         Validations.validateFieldsCountryDto(countryDto);
         Validations.validateFieldsCountryDto(currentCountry);
         currentCountry.setName(countryDto.getName());
@@ -97,6 +196,30 @@ public class CountryServiceImpl implements ICountryService {
         return updatedCountry;
     }
 
+    /**
+     * The code index is brought up to date from its own copy of the country, so the patch stays a single statement.
+     */
+    @Override
+    @Transactional
+    public void patchCountry(CountryDto countryDto, Long id, Long expectedVersion) {
+        LOGGER.info("Patching country :: patchCountry");
+        Validations.validatePatchCountryDto(countryDto);
+        new PartialUpdate<>(entityManager, Country.class)
+                .set("name", countryDto.getName())
+                .set("twoCharCode", countryDto.getTwoCharCode())
+                .set("threeCharCode", countryDto.getThreeCharCode())
+                .execute(id, expectedVersion, ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID);
+        CountryDto indexed = countryCodeIndex.findById(id);
+        CountryDto patchedCountry = indexed == null ? findCountryById(id) : new CountryDto(id,
+                countryDto.getName() == null ? indexed.getName() : countryDto.getName(),
+                countryDto.getTwoCharCode() == null ? indexed.getTwoCharCode() : countryDto.getTwoCharCode(),
+                countryDto.getThreeCharCode() == null ? indexed.getThreeCharCode() : countryDto.getThreeCharCode(),
+                (expectedVersion == null ? indexed.getVersion() : expectedVersion) + 1);
+        CollectionVersionListener.changed(Country.class);
+        eventPublisher.publishEvent(new CountryChangedEvent(id, patchedCountry));
+        LOGGER.info("Patched country. [{}]", patchedCountry);
+    }
+
     @Override
     @Transactional
     public CountryDto deleteCountry(Long id) {
@@ -105,7 +228,9 @@ public class CountryServiceImpl implements ICountryService {
         Optional<Country> currentCountry = countryDao.findById(id);
         if (currentCountry.isPresent()) {
             countryDao.delete(currentCountry.get());
-            deletedCountry = modelMapper.map(currentCountry.get(), CountryDto.class);
+            countryCount.invalidate();
+            eventPublisher.publishEvent(new CountryChangedEvent(id, null));
+            deletedCountry = countryMapper.toDto(currentCountry.get());
             LOGGER.info("Deleted country. [{}]", currentCountry.get());
         }
         return deletedCountry;
@@ -1,71 +1,191 @@
 package com.teaminternational.assessment.ewch.service.impl;
 
+import com.teaminternational.assessment.ewch.event.CollectionVersionListener;
+import com.teaminternational.assessment.ewch.event.EmployeeChangedEvent;
+import com.teaminternational.assessment.ewch.exception.PreconditionFailedException;
 import com.teaminternational.assessment.ewch.exception.ResourceNotFoundException;
+import com.teaminternational.assessment.ewch.mapper.IEmployeeMapper;
+import com.teaminternational.assessment.ewch.model.dto.BulkItemErrorDto;
+import com.teaminternational.assessment.ewch.model.dto.BulkResultDto;
+import com.teaminternational.assessment.ewch.model.dto.CursorPageDto;
 import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.model.dto.EmployeePatchDto;
+import com.teaminternational.assessment.ewch.model.entity.Area;
+import com.teaminternational.assessment.ewch.model.entity.Country;
 import com.teaminternational.assessment.ewch.model.entity.Employee;
+import com.teaminternational.assessment.ewch.model.entity.JobTitle;
+import com.teaminternational.assessment.ewch.repository.ICountryDao;
 import com.teaminternational.assessment.ewch.repository.IEmployeeDao;
+import com.teaminternational.assessment.ewch.repository.IJobTitleDao;
+import com.teaminternational.assessment.ewch.search.EmployeeSearchIndex;
 import com.teaminternational.assessment.ewch.service.IEmployeeService;
+import com.teaminternational.assessment.ewch.utils.CachedCount;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import com.teaminternational.assessment.ewch.utils.Cursor;
+import com.teaminternational.assessment.ewch.utils.DateUtils;
+import com.teaminternational.assessment.ewch.utils.ETags;
 import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import com.teaminternational.assessment.ewch.utils.PartialUpdate;
 import com.teaminternational.assessment.ewch.utils.Validations;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class EmployeeServiceImpl implements IEmployeeService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeServiceImpl.class);
+    private static final int MONTH_DAY_MIN = 101;
+    private static final int MONTH_DAY_MAX = 1231;
 
     private final IEmployeeDao employeeDao;
-    private final ModelMapper modelMapper;
+    private final IJobTitleDao jobTitleDao;
+    private final ICountryDao countryDao;
+    private final IEmployeeMapper employeeMapper;
+    private final EntityManager entityManager;
+    private final EmployeeSearchIndex employeeSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final CachedCount employeeCount = new CachedCount(Constants.APPROXIMATE_TOTAL_TTL_MILLIS);
 
-    public EmployeeServiceImpl(IEmployeeDao employeeDao, ModelMapper modelMapper) {
+    public EmployeeServiceImpl(IEmployeeDao employeeDao, IJobTitleDao jobTitleDao, ICountryDao countryDao,
+                               IEmployeeMapper employeeMapper, EntityManager entityManager,
+                               EmployeeSearchIndex employeeSearchIndex, ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager) {
         this.employeeDao = employeeDao;
-        this.modelMapper = modelMapper;
+        this.jobTitleDao = jobTitleDao;
+        this.countryDao = countryDao;
+        this.employeeMapper = employeeMapper;
+        this.entityManager = entityManager;
+        this.employeeSearchIndex = employeeSearchIndex;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<EmployeeDto> findAllEmployees() {
         LOGGER.info("Getting all employees :: findAllEmployees");
-        return employeeDao.findAll().stream()
-                .map(employee -> modelMapper.map(employee, EmployeeDto.class)).collect(Collectors.toList());
+        return employeeDao.findAllDtos();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<EmployeeDto> findAllEmployees(Pageable pageable) {
         LOGGER.info("Getting all employees :: findAllEmployees Pageable");
-        return employeeDao.findAll(pageable)
-                .map(employee -> modelMapper.map(employee, EmployeeDto.class));
+        return employeeDao.findAllDtos(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<EmployeeDto> findAllEmployees(String cursor, int size, boolean approximateTotal) {
+        LOGGER.info("Getting all employees :: findAllEmployees Cursor");
+        Slice<Employee> slice;
+        if (cursor == null || cursor.isEmpty()) {
+            slice = employeeDao.findFirstKeysetPage(Cursor.pageable(size));
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            slice = employeeDao.findKeysetPageAfter(after.getSortKey(), after.getId(), Cursor.pageable(size));
+        }
+        Long total = approximateTotal ? employeeCount.get(employeeDao::count) : null;
+        return Cursor.toPage(slice, employeeMapper::toDto, employee -> new Cursor(employee.getName(), employee.getId()), total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<EmployeeDto> consumer) {
+        LOGGER.info("Streaming all employees :: streamAllEmployees");
+        try (Stream<Employee> employees = employeeDao.streamAll()) {
+            employees.forEach(employee -> {
+                consumer.accept(employeeMapper.toDto(employee));
+                entityManager.detach(employee);
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findEmployeeETag(Long id) {
+        return lookupEmployeeETag(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID.concat(id.toString())));
     }
 
     @Override
     @Transactional(readOnly = true)
     public EmployeeDto findEmployeeById(Long id) {
-        LOGGER.info("Getting employee by id :: findEmployeeById");
-        Employee employee = employeeDao.findById(id)
+        return lookupEmployeeById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID.concat(id.toString())));
-        LOGGER.info("Returning employee by id. [{}]", employee);
-        return modelMapper.map(employee, EmployeeDto.class);
     }
 
     @Override
     @Transactional(readOnly = true)
     public EmployeeDto findEmployeeByUsername(String username) {
-        LOGGER.info("Getting employee by username :: findEmployeeByUsername");
-        Employee employee = employeeDao.findEmployeeByUsername(username)
+        return lookupEmployeeByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_USERNAME.concat(username)));
-        LOGGER.info("Returning employee by username. [{}]", employee);
-        return modelMapper.map(employee, EmployeeDto.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> lookupEmployeeETag(Long id) {
+        LOGGER.info("Getting employee version by id :: lookupEmployeeETag");
+        long referenceVersion = findEmployeeReferenceVersion();
+        return employeeDao.findVersionById(id).map(version -> ETags.of(id, version, referenceVersion));
+    }
+
+    /**
+     * Writes counted so far to the job titles, areas and countries embedded in EmployeeDto, read without a query.
+     * Take it before loading the employee: a rename committed in between then makes the tag older, never newer.
+     */
+    @Override
+    public long findEmployeeReferenceVersion() {
+        return CollectionVersionListener.version(JobTitle.class) + CollectionVersionListener.version(Area.class)
+                + CollectionVersionListener.version(Country.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EmployeeDto> lookupEmployeeById(Long id) {
+        LOGGER.info("Getting employee by id :: lookupEmployeeById");
+        Optional<EmployeeDto> employeeDto = employeeDao.findDtoById(id);
+        LOGGER.info("Returning employee by id. [{}]", employeeDto);
+        return employeeDto;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EmployeeDto> lookupEmployeeByUsername(String username) {
+        LOGGER.info("Getting employee by username :: lookupEmployeeByUsername");
+        Optional<EmployeeDto> employeeDto = employeeDao.findDtoByUsername(username);
+        LOGGER.info("Returning employee by username. [{}]", employeeDto);
+        return employeeDto;
     }
 
     @Override
@@ -75,7 +195,80 @@ public class EmployeeServiceImpl implements IEmployeeService {
         Employee employee = employeeDao.findEmployeeByNameOrUsername(nameOrUsername)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_USERNAME.concat(nameOrUsername)));
         LOGGER.info("Returning employee by name or username. [{}]", employee);
-        return modelMapper.map(employee, EmployeeDto.class);
+        return employeeMapper.toDto(employee);
+    }
+
+    /**
+     * The index only ranks ids; the employees of the page are loaded in one query, so ages and reference names are
+     * current.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmployeeDto> searchEmployees(String query, Pageable pageable) {
+        LOGGER.info("Searching employees by name or username :: searchEmployees");
+        Page<Long> ids = employeeSearchIndex.search(query, pageable);
+        if (!ids.hasContent()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, ids.getTotalElements());
+        }
+        Map<Long, EmployeeDto> employees = employeeDao.findDtosByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(EmployeeDto::getId, Function.identity()));
+        List<EmployeeDto> content = ids.getContent().stream()
+                .map(employees::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
+
+    /**
+     * Ages between minAge and maxAge, both inclusive, as a range on date_of_birth.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmployeeDto> findEmployeesByAge(int minAge, int maxAge, Pageable pageable) {
+        LOGGER.info("Getting employees by age :: findEmployeesByAge");
+        LocalDate today = DateUtils.today();
+        LocalDate bornFrom = today.minusYears(Math.min(Math.max(maxAge, 0), Constants.MAX_AGE) + 1L).plusDays(1);
+        LocalDate bornTo = today.minusYears(Math.max(minAge, 0));
+        return employeeDao.findDtosByDateOfBirthBetween(bornFrom, bornTo, pageable);
+    }
+
+    /**
+     * Birthdays from today through the next days, in the order they come up.
+     * A window crossing New Year is read as two ranges on birth_month_day.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeDto> findUpcomingBirthdays(int days) {
+        LOGGER.info("Getting upcoming birthdays :: findUpcomingBirthdays");
+        LocalDate from = DateUtils.today();
+        LocalDate to = from.plusDays(Math.max(0, Math.min(days, Constants.MAX_UPCOMING_DAYS)));
+        if (from.getYear() == to.getYear()) {
+            return employeeDao.findDtosByBirthMonthDayBetween(DateUtils.monthDay(from), DateUtils.monthDay(to));
+        }
+        List<EmployeeDto> birthdays = new ArrayList<>(employeeDao.findDtosByBirthMonthDayBetween(DateUtils.monthDay(from), MONTH_DAY_MAX));
+        birthdays.addAll(employeeDao.findDtosByBirthMonthDayBetween(MONTH_DAY_MIN, DateUtils.monthDay(to)));
+        return birthdays;
+    }
+
+    /**
+     * Hire anniversaries from today through the next days. Only employees hired in an earlier year than the
+     * anniversary falls on are included.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeDto> findUpcomingHireAnniversaries(int days) {
+        LOGGER.info("Getting upcoming hire anniversaries :: findUpcomingHireAnniversaries");
+        LocalDate from = DateUtils.today();
+        LocalDate to = from.plusDays(Math.max(0, Math.min(days, Constants.MAX_UPCOMING_DAYS)));
+        if (from.getYear() == to.getYear()) {
+            return employeeDao.findDtosByHireMonthDayBetween(DateUtils.monthDay(from), DateUtils.monthDay(to),
+                    LocalDate.of(from.getYear(), 1, 1));
+        }
+        List<EmployeeDto> anniversaries = new ArrayList<>(employeeDao.findDtosByHireMonthDayBetween(
+                DateUtils.monthDay(from), MONTH_DAY_MAX, LocalDate.of(from.getYear(), 1, 1)));
+        anniversaries.addAll(employeeDao.findDtosByHireMonthDayBetween(
+                MONTH_DAY_MIN, DateUtils.monthDay(to), LocalDate.of(to.getYear(), 1, 1)));
+        return anniversaries;
     }
 
     @Override
@@ -85,48 +278,227 @@ public class EmployeeServiceImpl implements IEmployeeService {
         Employee newEmployee;
         EmployeeDto newEmployeeDto;
         Validations.validateFieldsEmployeeDto(employeeDto);
-        newEmployee = employeeDao.save(modelMapper.map(employeeDto, Employee.class));
-        newEmployeeDto = modelMapper.map(newEmployee, EmployeeDto.class);
+        newEmployee = employeeMapper.toEntity(employeeDto);
+        newEmployee.setJobTitle(entityManager.getReference(JobTitle.class, employeeDto.getJobTitleId()));
+        newEmployee.setCountry(entityManager.getReference(Country.class, employeeDto.getCountryId()));
+        newEmployee = employeeDao.saveAndFlush(newEmployee);
+        newEmployeeDto = employeeMapper.toDto(newEmployee);
+        employeeCount.invalidate();
+        eventPublisher.publishEvent(new EmployeeChangedEvent(newEmployeeDto.getId(), newEmployeeDto));
         LOGGER.info("New created employee. [{}]", newEmployeeDto);
         return newEmployeeDto;
     }
 
     @Override
     @Transactional
-    public EmployeeDto updateEmployee(EmployeeDto employeeDto, Long id) {
+    public EmployeeDto updateEmployee(EmployeeDto employeeDto, Long id, Long expectedVersion) {
         LOGGER.info("Updating employee :: updateEmployee");
         EmployeeDto updatedEmployee;
-        EmployeeDto currentEmployee = findEmployeeById(id);
+        Employee currentEmployee = employeeDao.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID.concat(id.toString())));
+        if (expectedVersion != null && !expectedVersion.equals(currentEmployee.getVersion())) {
+            throw new PreconditionFailedException(ErrorMessages.PRECONDITION_FAILED);
+        }
         Validations.validateFieldsEmployeeDto(employeeDto);
-        Validations.validateFieldsEmployeeDto(currentEmployee);
-        currentEmployee.setName(employeeDto.getName());
-        currentEmployee.setUsername(employeeDto.getUsername());
-        currentEmployee.setDateOfBirth(employeeDto.getDateOfBirth());
-        currentEmployee.setHireDate(employeeDto.getHireDate());
-        currentEmployee.setAreaId(employeeDto.getAreaId());
-        currentEmployee.setAreaName(employeeDto.getAreaName());
-        currentEmployee.setJobTitleId(employeeDto.getJobTitleId());
-        currentEmployee.setJobTitleName(employeeDto.getJobTitleName());
-        currentEmployee.setCountryId(employeeDto.getCountryId());
-        currentEmployee.setCountryName(employeeDto.getCountryName());
-        currentEmployee.setStatus(employeeDto.getStatus());
-        currentEmployee.setTipRate(employeeDto.getTipRate());
-        updatedEmployee = createEmployee(currentEmployee);
+        employeeMapper.updateEntity(employeeDto, currentEmployee);
+        currentEmployee.setJobTitle(entityManager.getReference(JobTitle.class, employeeDto.getJobTitleId()));
+        currentEmployee.setCountry(entityManager.getReference(Country.class, employeeDto.getCountryId()));
+        entityManager.flush();
+        updatedEmployee = employeeMapper.toDto(currentEmployee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(id, updatedEmployee));
         LOGGER.info("Updated employee. [{}]", updatedEmployee);
         return updatedEmployee;
     }
 
+    /**
+     * One UPDATE of the supplied columns, without reading the employee first or after. The supplied fields are
+     * published as they are, and the search and statistics indexes apply them to their own copy.
+     */
+    @Override
+    @Transactional
+    public void patchEmployee(EmployeePatchDto employeePatchDto, Long id, Long expectedVersion) {
+        LOGGER.info("Patching employee :: patchEmployee");
+        Validations.validatePatchEmployeeDto(employeePatchDto);
+        new PartialUpdate<>(entityManager, Employee.class)
+                .set("name", employeePatchDto.getName())
+                .set("username", employeePatchDto.getUsername())
+                .set("dateOfBirth", employeePatchDto.getDateOfBirth())
+                .set("hireDate", employeePatchDto.getHireDate())
+                .setReference("jobTitle", JobTitle.class, employeePatchDto.getJobTitleId())
+                .setReference("country", Country.class, employeePatchDto.getCountryId())
+                .set("status", employeePatchDto.getStatus())
+                .set("tipRate", employeePatchDto.getTipRate())
+                .execute(id, expectedVersion, ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID);
+        eventPublisher.publishEvent(EmployeeChangedEvent.patched(id, employeePatchDto));
+        LOGGER.info("Patched employee. [{}]", employeePatchDto);
+    }
+
+    /**
+     * Validates the whole request up front, then saves the valid employees in chunks of {@link Constants#JDBC_BATCH_SIZE},
+     * one transaction per chunk so Hibernate can send each chunk as a single JDBC batch. When a chunk fails it is
+     * retried item by item, so one bad row only fails itself. {@code ids} in the result follows the request order.
+     */
+    @Override
+    public BulkResultDto bulkSaveEmployees(List<EmployeeDto> employeeDtos) {
+        LOGGER.info("Saving employees in bulk :: bulkSaveEmployees [{}]", employeeDtos.size());
+        Map<Integer, String> errors = new TreeMap<>(Validations.validateFieldsEmployeeDtos(employeeDtos));
+        validateBulkReferences(employeeDtos, errors);
+        BulkResultDto result = new BulkResultDto(0, 0, 0, Arrays.asList(new Long[employeeDtos.size()]), null);
+        List<Integer> chunk = new ArrayList<>(Constants.JDBC_BATCH_SIZE);
+        for (int i = 0; i < employeeDtos.size(); i++) {
+            if (errors.containsKey(i)) {
+                continue;
+            }
+            chunk.add(i);
+            if (chunk.size() == Constants.JDBC_BATCH_SIZE) {
+                saveBulkChunk(employeeDtos, chunk, result, errors);
+                chunk = new ArrayList<>(Constants.JDBC_BATCH_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveBulkChunk(employeeDtos, chunk, result, errors);
+        }
+        employeeCount.invalidate();
+        result.setFailed(errors.size());
+        result.setErrors(errors.entrySet().stream()
+                .map(error -> new BulkItemErrorDto(error.getKey(), usernameAt(employeeDtos, error.getKey()), error.getValue()))
+                .collect(Collectors.toList()));
+        LOGGER.info("Saved employees in bulk. [created={}, updated={}, failed={}]", result.getCreated(), result.getUpdated(), result.getFailed());
+        return result;
+    }
+
+    private void validateBulkReferences(List<EmployeeDto> employeeDtos, Map<Integer, String> errors) {
+        Set<Long> jobTitleIds = new HashSet<>();
+        Set<Long> countryIds = new HashSet<>();
+        List<String> usernames = new ArrayList<>();
+        for (int i = 0; i < employeeDtos.size(); i++) {
+            if (!errors.containsKey(i)) {
+                jobTitleIds.add(employeeDtos.get(i).getJobTitleId());
+                countryIds.add(employeeDtos.get(i).getCountryId());
+                usernames.add(employeeDtos.get(i).getUsername());
+            }
+        }
+        Set<Long> existingJobTitleIds = jobTitleDao.findAllById(jobTitleIds).stream()
+                .map(JobTitle::getId).collect(Collectors.toSet());
+        Set<Long> existingCountryIds = countryDao.findAllById(countryIds).stream()
+                .map(Country::getId).collect(Collectors.toSet());
+        Map<String, Long> takenUsernames = new HashMap<>();
+        for (int from = 0; from < usernames.size(); from += Constants.BULK_LOOKUP_CHUNK_SIZE) {
+            List<String> lookup = usernames.subList(from, Math.min(from + Constants.BULK_LOOKUP_CHUNK_SIZE, usernames.size()));
+            employeeDao.findByUsernameIn(lookup)
+                    .forEach(view -> takenUsernames.put(view.getUsername(), view.getId()));
+        }
+        for (int i = 0; i < employeeDtos.size(); i++) {
+            if (errors.containsKey(i)) {
+                continue;
+            }
+            EmployeeDto employeeDto = employeeDtos.get(i);
+            Long owner = takenUsernames.get(employeeDto.getUsername());
+            if (!existingJobTitleIds.contains(employeeDto.getJobTitleId())) {
+                errors.put(i, ErrorMessages.JOB_TITLE_NOT_FOUND);
+            } else if (!existingCountryIds.contains(employeeDto.getCountryId())) {
+                errors.put(i, ErrorMessages.COUNTRY_NOT_FOUND);
+            } else if (owner != null && !owner.equals(employeeDto.getId())) {
+                errors.put(i, ErrorMessages.USERNAME_ALREADY_IN_USE);
+            }
+        }
+    }
+
+    private void saveBulkChunk(List<EmployeeDto> employeeDtos, List<Integer> chunk, BulkResultDto result, Map<Integer, String> errors) {
+        List<EmployeeDto> saved;
+        try {
+            saved = transactionTemplate.execute(status -> persistBulkChunk(employeeDtos, chunk));
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                int index = chunk.get(0);
+                LOGGER.error("Bulk item [{}] could not be saved. [{}]", index, e.getMessage());
+                errors.put(index, e instanceof ResourceNotFoundException || e instanceof PreconditionFailedException ? e.getMessage()
+                        : employeeDtos.get(index).getId() == null ? ErrorMessages.ERROR_CREATING_EMPLOYEE : ErrorMessages.ERROR_UPDATING_EMPLOYEE);
+                return;
+            }
+            LOGGER.warn("Bulk chunk failed, retrying item by item. [{}]", e.getMessage());
+            chunk.forEach(index -> saveBulkChunk(employeeDtos, Collections.singletonList(index), result, errors));
+            return;
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            EmployeeDto employeeDto = saved.get(i);
+            if (employeeDtos.get(chunk.get(i)).getId() == null) {
+                result.setCreated(result.getCreated() + 1);
+            } else {
+                result.setUpdated(result.getUpdated() + 1);
+            }
+            result.getIds().set(chunk.get(i), employeeDto.getId());
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employeeDto.getId(), employeeDto));
+        }
+    }
+
+    private List<EmployeeDto> persistBulkChunk(List<EmployeeDto> employeeDtos, List<Integer> chunk) {
+        Set<Long> updateIds = chunk.stream()
+                .map(index -> employeeDtos.get(index).getId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Employee> currentEmployees = updateIds.isEmpty() ? Collections.emptyMap()
+                : employeeDao.findAllById(updateIds).stream().collect(Collectors.toMap(Employee::getId, Function.identity()));
+        List<Employee> employees = new ArrayList<>(chunk.size());
+        for (Integer index : chunk) {
+            EmployeeDto employeeDto = employeeDtos.get(index);
+            Employee employee = employeeDto.getId() == null ? new Employee() : currentEmployees.get(employeeDto.getId());
+            if (employee == null) {
+                throw new ResourceNotFoundException(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID.concat(employeeDto.getId().toString()));
+            }
+            if (employeeDto.getVersion() != null && !employeeDto.getVersion().equals(employee.getVersion())) {
+                throw new PreconditionFailedException(ErrorMessages.PRECONDITION_FAILED);
+            }
+            employeeMapper.updateEntity(employeeDto, employee);
+            employee.setJobTitle(entityManager.getReference(JobTitle.class, employeeDto.getJobTitleId()));
+            employee.setCountry(entityManager.getReference(Country.class, employeeDto.getCountryId()));
+            if (employee.getId() == null) {
+                entityManager.persist(employee);
+            }
+            employees.add(employee);
+        }
+        entityManager.flush();
+        return employees.stream().map(employeeMapper::toDto).collect(Collectors.toList());
+    }
+
+    private static String usernameAt(List<EmployeeDto> employeeDtos, int index) {
+        EmployeeDto employeeDto = employeeDtos.get(index);
+        return employeeDto == null ? null : employeeDto.getUsername();
+    }
+
     @Override
     @Transactional
-    public EmployeeDto deleteEmployee(Long id) {
+    public int deleteEmployee(Long id) {
         LOGGER.info("Deleting employee :: deleteEmployee");
-        EmployeeDto deletedEmployee = null;
-        Optional<Employee> currentEmployee = employeeDao.findById(id);
-        if (currentEmployee.isPresent()) {
-            employeeDao.delete(currentEmployee.get());
-            deletedEmployee = modelMapper.map(currentEmployee.get(), EmployeeDto.class);
-            LOGGER.info("Deleted employee. [{}]", currentEmployee.get());
-        }
-        return deletedEmployee;
+        return deleteEmployees(Collections.singleton(id));
+    }
+
+    /**
+     * Deletes with one {@code DELETE ... WHERE id IN (...)} per {@link Constants#BULK_LOOKUP_CHUNK_SIZE} ids, without
+     * loading the employees first. Ids that do not exist are skipped and not counted: a chunk of several ids first
+     * selects which of them exist, so the indexes only hear about employees that were deleted.
+     */
+    @Override
+    @Transactional
+    public int deleteEmployees(Collection<Long> ids) {
+        LOGGER.info("Deleting employees :: deleteEmployees [{}]", ids.size());
+        List<Long> distinctIds = new ArrayList<>(new HashSet<>(ids));
+        List<Long> deletedIds = new ArrayList<>();
+        int deleted = 0;
+        for (int from = 0; from < distinctIds.size(); from += Constants.BULK_LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + Constants.BULK_LOOKUP_CHUNK_SIZE, distinctIds.size()));
+            List<Long> existingIds = chunk.size() == 1 ? chunk : employeeDao.findIdsByIdIn(chunk);
+            int chunkDeleted = existingIds.isEmpty() ? 0 : employeeDao.deleteByIdIn(existingIds);
+            if (chunkDeleted > 0) {
+                deleted += chunkDeleted;
+                deletedIds.addAll(existingIds);
+            }
+        }
+        if (deleted > 0) {
+            employeeCount.invalidate();
+            deletedIds.forEach(id -> eventPublisher.publishEvent(new EmployeeChangedEvent(id, null)));
+        }
+        LOGGER.info("Deleted employees. [{}]", deleted);
+        return deleted;
     }
 }
@@ -0,0 +1,96 @@
+package com.teaminternational.assessment.ewch.service.impl;
+
+import com.teaminternational.assessment.ewch.model.dto.GroupStatisticsDto;
+import com.teaminternational.assessment.ewch.repository.IEmployeeDao;
+import com.teaminternational.assessment.ewch.search.EmployeeStatisticsIndex;
+import com.teaminternational.assessment.ewch.search.EmployeeStatisticsIndex.Dimension;
+import com.teaminternational.assessment.ewch.service.IEmployeeStatisticsService;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers from {@link EmployeeStatisticsIndex}, which the employee service keeps current on every write. The SQL
+ * GROUP BY queries only run to reconcile the index now and then.
+ */
+@Service
+public class EmployeeStatisticsServiceImpl implements IEmployeeStatisticsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeStatisticsServiceImpl.class);
+
+    private final EmployeeStatisticsIndex employeeStatisticsIndex;
+    private final IEmployeeDao employeeDao;
+
+    public EmployeeStatisticsServiceImpl(EmployeeStatisticsIndex employeeStatisticsIndex, IEmployeeDao employeeDao) {
+        this.employeeStatisticsIndex = employeeStatisticsIndex;
+        this.employeeDao = employeeDao;
+    }
+
+    @Override
+    public Map<String, List<GroupStatisticsDto>> findAllStatistics() {
+        LOGGER.info("Getting all employee statistics :: findAllStatistics");
+        Map<String, List<GroupStatisticsDto>> statistics = new LinkedHashMap<>();
+        statistics.put(Constants.STATISTICS_AREAS, findAreaStatistics());
+        statistics.put(Constants.STATISTICS_JOB_TITLES, findJobTitleStatistics());
+        statistics.put(Constants.STATISTICS_COUNTRIES, findCountryStatistics());
+        statistics.put(Constants.STATISTICS_STATUS, findStatusStatistics());
+        return statistics;
+    }
+
+    @Override
+    public List<GroupStatisticsDto> findAreaStatistics() {
+        return employeeStatisticsIndex.find(Dimension.AREA);
+    }
+
+    @Override
+    public List<GroupStatisticsDto> findJobTitleStatistics() {
+        return employeeStatisticsIndex.find(Dimension.JOB_TITLE);
+    }
+
+    @Override
+    public List<GroupStatisticsDto> findCountryStatistics() {
+        return employeeStatisticsIndex.find(Dimension.COUNTRY);
+    }
+
+    @Override
+    public List<GroupStatisticsDto> findStatusStatistics() {
+        return employeeStatisticsIndex.find(Dimension.STATUS);
+    }
+
+    /**
+     * Compares the index with the database and rebuilds it when they differ, for instance after a job title moved to
+     * another area or a write bypassed the service. Returns whether the index was rebuilt. When employees change while
+     * this runs, the comparison cannot be trusted and is left to the next run.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Scheduled(initialDelayString = "${restaurant.statistics.reconcile-interval:300000}",
+            fixedDelayString = "${restaurant.statistics.reconcile-interval:300000}")
+    public boolean reconcile() {
+        LOGGER.info("Reconciling employee statistics :: reconcile");
+        long writes = employeeStatisticsIndex.writes();
+        Map<Dimension, List<GroupStatisticsDto>> expected = new EnumMap<>(Dimension.class);
+        expected.put(Dimension.AREA, employeeDao.findAreaStatistics());
+        expected.put(Dimension.JOB_TITLE, employeeDao.findJobTitleStatistics());
+        expected.put(Dimension.COUNTRY, employeeDao.findCountryStatistics());
+        expected.put(Dimension.STATUS, employeeDao.findStatusStatistics());
+        if (employeeStatisticsIndex.matches(expected)) {
+            LOGGER.info("Employee statistics are in sync.");
+            return false;
+        }
+        if (!employeeStatisticsIndex.rebuild(writes)) {
+            LOGGER.info("Employees changed while reconciling statistics, retrying on the next run.");
+            return false;
+        }
+        LOGGER.warn("Employee statistics had drifted from the database and were rebuilt.");
+        return true;
+    }
+}
@@ -1,26 +1,41 @@
 package com.teaminternational.assessment.ewch.service.impl;
 
+import com.teaminternational.assessment.ewch.event.CollectionVersionListener;
+import com.teaminternational.assessment.ewch.event.ReferenceRenamedEvent;
+import com.teaminternational.assessment.ewch.exception.PreconditionFailedException;
 import com.teaminternational.assessment.ewch.exception.ResourceNotFoundException;
+import com.teaminternational.assessment.ewch.mapper.IJobTitleMapper;
+import com.teaminternational.assessment.ewch.model.dto.CursorPageDto;
 import com.teaminternational.assessment.ewch.model.dto.JobTitleDto;
+import com.teaminternational.assessment.ewch.model.entity.Area;
 import com.teaminternational.assessment.ewch.model.entity.JobTitle;
 import com.teaminternational.assessment.ewch.repository.IJobTitleDao;
 import com.teaminternational.assessment.ewch.service.IJobTitleService;
+import com.teaminternational.assessment.ewch.utils.CachedCount;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import com.teaminternational.assessment.ewch.utils.Cursor;
+import com.teaminternational.assessment.ewch.utils.ETags;
 import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import com.teaminternational.assessment.ewch.utils.PartialUpdate;
 import com.teaminternational.assessment.ewch.utils.Validations;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.RecoverableDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class JobTitleServiceImpl implements IJobTitleService {
@@ -28,47 +43,110 @@ public class JobTitleServiceImpl implements IJobTitleService {
     private static final Logger LOGGER = LoggerFactory.getLogger(JobTitleServiceImpl.class);
 
     private final IJobTitleDao jobTitleDao;
-    private final ModelMapper modelMapper;
+    private final IJobTitleMapper jobTitleMapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CachedCount jobTitleCount = new CachedCount(Constants.APPROXIMATE_TOTAL_TTL_MILLIS);
 
-    public JobTitleServiceImpl(IJobTitleDao jobTitleDao, ModelMapper modelMapper) {
+    public JobTitleServiceImpl(IJobTitleDao jobTitleDao, IJobTitleMapper jobTitleMapper, EntityManager entityManager,
+                               ApplicationEventPublisher eventPublisher) {
         this.jobTitleDao = jobTitleDao;
-        this.modelMapper = modelMapper;
+        this.jobTitleMapper = jobTitleMapper;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<JobTitleDto> findAllJobTitles() {
         LOGGER.info("Getting all jobTitles :: findAllJobTitles");
-        return jobTitleDao.findAll().stream()
-                .map(jobTitle -> modelMapper.map(jobTitle, JobTitleDto.class)).collect(Collectors.toList());
+        return jobTitleDao.findAllDtos();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<JobTitleDto> findAllJobTitles(Pageable pageable) {
         LOGGER.info("Getting all jobTitles :: findAllJobTitles Pageable");
-        return jobTitleDao.findAll(pageable)
-                .map(jobTitle -> modelMapper.map(jobTitle, JobTitleDto.class));
+        return jobTitleDao.findAllDtos(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<JobTitleDto> findAllJobTitles(String cursor, int size, boolean approximateTotal) {
+        LOGGER.info("Getting all jobTitles :: findAllJobTitles Cursor");
+        Slice<JobTitle> slice;
+        if (cursor == null || cursor.isEmpty()) {
+            slice = jobTitleDao.findFirstKeysetPage(Cursor.pageable(size));
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            slice = jobTitleDao.findKeysetPageAfter(after.getSortKey(), after.getId(), Cursor.pageable(size));
+        }
+        Long total = approximateTotal ? jobTitleCount.get(jobTitleDao::count) : null;
+        return Cursor.toPage(slice, jobTitleMapper::toDto, jobTitle -> new Cursor(jobTitle.getName(), jobTitle.getId()), total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllJobTitles(Consumer<JobTitleDto> consumer) {
+        LOGGER.info("Streaming all jobTitles :: streamAllJobTitles");
+        try (Stream<JobTitle> jobTitles = jobTitleDao.streamAll()) {
+            jobTitles.forEach(jobTitle -> {
+                consumer.accept(jobTitleMapper.toDto(jobTitle));
+                entityManager.detach(jobTitle);
+            });
+        }
+    }
+
+    @Override
+    public String findAllJobTitlesETag() {
+        return ETags.ofCollection(CollectionVersionListener.version(JobTitle.class) + CollectionVersionListener.version(Area.class));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findJobTitleETag(Long id) {
+        return lookupJobTitleETag(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_ID.concat(id.toString())));
     }
 
     @Override
     @Transactional(readOnly = true)
     public JobTitleDto findJobTitleById(Long id) {
-        LOGGER.info("Getting jobTitle by id :: findJobTitleById");
-        JobTitle jobTitle = jobTitleDao.findById(id)
+        return lookupJobTitleById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_ID.concat(id.toString())));
-        LOGGER.info("Returning jobTitle by id. [{}]", jobTitle);
-        return modelMapper.map(jobTitle, JobTitleDto.class);
     }
 
     @Override
     @Transactional(readOnly = true)
     public JobTitleDto findJobTitleByName(String name) {
-        LOGGER.info("Getting jobTitle by name :: findJobTitleByName");
-        JobTitle jobTitle = jobTitleDao.findJobTitleByName(name)
+        return lookupJobTitleByName(name)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_USERNAME.concat(name)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> lookupJobTitleETag(Long id) {
+        LOGGER.info("Getting jobTitle version by id :: lookupJobTitleETag");
+        return jobTitleDao.findById(id).map(jobTitle ->
+                ETags.of(id, jobTitle.getVersion(), jobTitle.getArea() == null ? 0L : jobTitle.getArea().getVersion()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<JobTitleDto> lookupJobTitleById(Long id) {
+        LOGGER.info("Getting jobTitle by id :: lookupJobTitleById");
+        Optional<JobTitle> jobTitle = jobTitleDao.findById(id);
+        LOGGER.info("Returning jobTitle by id. [{}]", jobTitle);
+        return jobTitle.map(jobTitleMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<JobTitleDto> lookupJobTitleByName(String name) {
+        LOGGER.info("Getting jobTitle by name :: lookupJobTitleByName");
+        Optional<JobTitle> jobTitle = jobTitleDao.findJobTitleByName(name);
         LOGGER.info("Returning jobTitle by name. [{}]", jobTitle);
-        return modelMapper.map(jobTitle, JobTitleDto.class);
+        return jobTitle.map(jobTitleMapper::toDto);
     }
 
     @Override
@@ -78,26 +156,54 @@ public class JobTitleServiceImpl implements IJobTitleService {
         JobTitle newJobTitle;
         JobTitleDto newJobTitleDto;
         Validations.validateFieldsJobTitleDto(jobTitleDto);
-        newJobTitle = jobTitleDao.save(modelMapper.map(jobTitleDto, JobTitle.class));
-        newJobTitleDto = modelMapper.map(newJobTitle, JobTitleDto.class);
+        newJobTitle = jobTitleMapper.toEntity(jobTitleDto);
+        newJobTitle.setArea(jobTitleDto.getAreaId() == null ? null : entityManager.getReference(Area.class, jobTitleDto.getAreaId()));
+        newJobTitle = jobTitleDao.saveAndFlush(newJobTitle);
+        newJobTitleDto = jobTitleMapper.toDto(newJobTitle);
+        evictAreaJobTitles(newJobTitleDto.getAreaId());
+        jobTitleCount.invalidate();
         LOGGER.info("New created jobTitle. [{}]", newJobTitleDto);
         return newJobTitleDto;
     }
 
     @Override
     @Transactional
-    public JobTitleDto updateJobTitle(JobTitleDto jobTitleDto, Long id) {
+    public JobTitleDto updateJobTitle(JobTitleDto jobTitleDto, Long id, Long expectedVersion) {
         LOGGER.info("Updating jobTitle :: updateJobTitle");
         JobTitleDto updatedJobTitle;
         JobTitleDto currentJobTitle = findJobTitleById(id);
+        if (expectedVersion != null && !expectedVersion.equals(currentJobTitle.getVersion())) {
+            throw new PreconditionFailedException(ErrorMessages.PRECONDITION_FAILED);
+        }
         Validations.validateFieldsJobTitleDto(jobTitleDto);
         Validations.validateFieldsJobTitleDto(currentJobTitle);
         currentJobTitle.setName(jobTitleDto.getName());
         updatedJobTitle = createJobTitle(currentJobTitle);
+        eventPublisher.publishEvent(new ReferenceRenamedEvent(JobTitle.class, id, updatedJobTitle.getName()));
         LOGGER.info("Updated jobTitle. [{}]", updatedJobTitle);
         return updatedJobTitle;
     }
 
+    /**
+     * Moving a job title to another area needs no eviction here: the bulk update already drops the cached
+     * Area.jobTitles collections along with the job title region.
+     */
+    @Override
+    @Transactional
+    public void patchJobTitle(JobTitleDto jobTitleDto, Long id, Long expectedVersion) {
+        LOGGER.info("Patching jobTitle :: patchJobTitle");
+        Validations.validatePatchJobTitleDto(jobTitleDto);
+        new PartialUpdate<>(entityManager, JobTitle.class)
+                .set("name", jobTitleDto.getName())
+                .setReference("area", Area.class, jobTitleDto.getAreaId())
+                .execute(id, expectedVersion, ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_ID);
+        CollectionVersionListener.changed(JobTitle.class);
+        if (jobTitleDto.getName() != null) {
+            eventPublisher.publishEvent(new ReferenceRenamedEvent(JobTitle.class, id, jobTitleDto.getName()));
+        }
+        LOGGER.info("Patched jobTitle. [{}]", id);
+    }
+
     @Override
     @Transactional
     public JobTitleDto deleteJobTitle(Long id) {
@@ -106,9 +212,22 @@ public class JobTitleServiceImpl implements IJobTitleService {
         Optional<JobTitle> currentJobTitle = jobTitleDao.findById(id);
         if (currentJobTitle.isPresent()) {
             jobTitleDao.delete(currentJobTitle.get());
-            deletedJobTitle = modelMapper.map(currentJobTitle.get(), JobTitleDto.class);
+            evictAreaJobTitles(currentJobTitle.map(JobTitle::getArea).map(Area::getId).orElse(null));
+            jobTitleCount.invalidate();
+            deletedJobTitle = jobTitleMapper.toDto(currentJobTitle.get());
             LOGGER.info("Deleted jobTitle. [{}]", currentJobTitle.get());
         }
         return deletedJobTitle;
     }
+
+    /**
+     * Area.jobTitles is the inverse side of the relation, so Hibernate does not refresh its cached
+     * collection when a job title is added to or removed from an area.
+     */
+    private void evictAreaJobTitles(Long areaId) {
+        if (areaId != null) {
+            entityManager.getEntityManagerFactory().getCache().unwrap(org.hibernate.Cache.class)
+                    .evictCollectionData(Area.class.getName() + ".jobTitles", areaId);
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package com.teaminternational.assessment.ewch.service.impl;
+
+import com.teaminternational.assessment.ewch.event.CollectionVersionListener;
+import com.teaminternational.assessment.ewch.event.EmployeeChangedEvent;
+import com.teaminternational.assessment.ewch.model.dto.AreaTipDistributionDto;
+import com.teaminternational.assessment.ewch.model.dto.TipShareDto;
+import com.teaminternational.assessment.ewch.model.entity.JobTitle;
+import com.teaminternational.assessment.ewch.repository.IEmployeeDao;
+import com.teaminternational.assessment.ewch.service.ITipDistributionService;
+import com.teaminternational.assessment.ewch.tips.TipRoster;
+import com.teaminternational.assessment.ewch.utils.Validations;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Splits tip pools over a {@link TipRoster} loaded with one query and reused until an employee or job title changes.
+ * The pool is a private fork-join pool rather than a bean, so it is not picked up as the application's executor.
+ */
+@Service
+public class TipDistributionServiceImpl implements ITipDistributionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TipDistributionServiceImpl.class);
+
+    private final IEmployeeDao employeeDao;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ForkJoinPool forkJoinPool;
+    private final AtomicLong employeeWrites = new AtomicLong();
+    private volatile LoadedRoster roster;
+
+    public TipDistributionServiceImpl(IEmployeeDao employeeDao, PlatformTransactionManager transactionManager,
+                                      @Value("${restaurant.tips.parallelism:0}") int parallelism) {
+        this.employeeDao = employeeDao;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.forkJoinPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forkJoinPool.shutdown();
+    }
+
+    /**
+     * Any employee write may add, remove or move someone, or change a rate; the roster is reloaded on next use.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        employeeWrites.incrementAndGet();
+    }
+
+    @Override
+    public List<AreaTipDistributionDto> distributeTips(Map<Long, BigDecimal> pools) {
+        LOGGER.info("Distributing tips :: distributeTips [{} areas]", pools == null ? 0 : pools.size());
+        Validations.validateTipPools(pools);
+        long[] areaIds = new long[pools.size()];
+        long[] poolCents = new long[pools.size()];
+        int index = 0;
+        for (Map.Entry<Long, BigDecimal> pool : pools.entrySet()) {
+            areaIds[index] = pool.getKey();
+            poolCents[index] = pool.getValue().movePointRight(2).longValueExact();
+            index++;
+        }
+        TipRoster.AreaShares[] results = roster().distribute(areaIds, poolCents, forkJoinPool);
+        List<AreaTipDistributionDto> distribution = new ArrayList<>(results.length);
+        for (TipRoster.AreaShares result : results) {
+            distribution.add(toDto(result));
+        }
+        LOGGER.info("Distributed tips.");
+        return distribution;
+    }
+
+    private TipRoster roster() {
+        long version = employeeWrites.get() + CollectionVersionListener.version(JobTitle.class);
+        LoadedRoster current = roster;
+        if (current != null && current.version == version) {
+            return current.roster;
+        }
+        synchronized (this) {
+            current = roster;
+            if (current == null || current.version != version) {
+                current = new LoadedRoster(version, loadRoster());
+                roster = current;
+            }
+            return current.roster;
+        }
+    }
+
+    private TipRoster loadRoster() {
+        LOGGER.info("Loading tip roster :: loadRoster");
+        TipRoster loaded = readOnlyTransaction.execute(status -> {
+            TipRoster.Builder builder = TipRoster.builder();
+            try (Stream<IEmployeeDao.TipRateView> rows = employeeDao.streamActiveTipRates()) {
+                rows.forEach(row -> builder.add(row.getAreaId(), row.getId(), Math.round(row.getTipRate() * 100)));
+            }
+            return builder.build();
+        });
+        LOGGER.info("Tip roster loaded. [{} employees]", loaded.size());
+        return loaded;
+    }
+
+    private static AreaTipDistributionDto toDto(TipRoster.AreaShares result) {
+        List<TipShareDto> shares = new ArrayList<>(result.size());
+        for (int i = 0; i < result.size(); i++) {
+            shares.add(new TipShareDto(result.employeeId(i), BigDecimal.valueOf(result.share(i), 2)));
+        }
+        long distributed = result.distributed();
+        return new AreaTipDistributionDto(result.getAreaId(), BigDecimal.valueOf(result.getPool(), 2),
+                BigDecimal.valueOf(distributed, 2), BigDecimal.valueOf(result.getPool() - distributed, 2), shares);
+    }
+
+    private static final class LoadedRoster {
+
+        private final long version;
+        private final TipRoster roster;
+
+        private LoadedRoster(long version, TipRoster roster) {
+            this.version = version;
+            this.roster = roster;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.teaminternational.assessment.ewch.tips;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Active employees grouped by area, in struct-of-arrays form: employee ids and tip rates (in cents) sit in two
+ * parallel primitive arrays sorted by area and id, and each area is a slice of them. The roster is immutable and
+ * shared by concurrent distributions.
+ * <p>
+ * A pool is split in proportion to tip rates with integer cent arithmetic. Every employee first gets the floor of
+ * their exact share; the cents left over, fewer than the number of employees, go one each to the largest remainders,
+ * ties broken by employee id. The shares therefore always add up to the pool. When every rate in an area is zero the
+ * pool is split evenly. Areas are processed in parallel on a fork-join pool.
+ */
+public final class TipRoster {
+
+    /**
+     * Employees below which a group of areas is split sequentially instead of being forked further.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 8_192;
+
+    private final long[] areaIds;
+    private final int[] areaOffsets;
+    private final long[] employeeIds;
+    private final long[] tipRates;
+
+    private TipRoster(long[] areaIds, int[] areaOffsets, long[] employeeIds, long[] tipRates) {
+        this.areaIds = areaIds;
+        this.areaOffsets = areaOffsets;
+        this.employeeIds = employeeIds;
+        this.tipRates = tipRates;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return employeeIds.length;
+    }
+
+    /**
+     * Splits {@code poolCents[i]} across the employees of area {@code poolAreaIds[i]}. Areas without active
+     * employees get an empty result and keep their whole pool undistributed.
+     */
+    public AreaShares[] distribute(long[] poolAreaIds, long[] poolCents, ForkJoinPool forkJoinPool) {
+        AreaShares[] results = new AreaShares[poolAreaIds.length];
+        forkJoinPool.invoke(new DistributeTask(poolAreaIds, poolCents, results, 0, poolAreaIds.length));
+        return results;
+    }
+
+    private AreaShares distribute(long areaId, long poolCents) {
+        int area = Arrays.binarySearch(areaIds, areaId);
+        if (area < 0) {
+            return new AreaShares(areaId, poolCents, employeeIds, 0, new long[0]);
+        }
+        int from = areaOffsets[area];
+        int to = areaOffsets[area + 1];
+        long[] shares = new long[to - from];
+        split(poolCents, tipRates, from, to, shares);
+        return new AreaShares(areaId, poolCents, employeeIds, from, shares);
+    }
+
+    private int employeesIn(long areaId) {
+        int area = Arrays.binarySearch(areaIds, areaId);
+        return area < 0 ? 0 : areaOffsets[area + 1] - areaOffsets[area];
+    }
+
+    /**
+     * Splits {@code pool} across {@code rates[from, to)} by largest remainder and writes the shares to
+     * {@code shares[0, to - from)}.
+     */
+    static void split(long pool, long[] rates, int from, int to, long[] shares) {
+        int size = to - from;
+        if (size == 0) {
+            return;
+        }
+        long total = 0;
+        long maxRate = 0;
+        for (int i = from; i < to; i++) {
+            total = Math.addExact(total, rates[i]);
+            maxRate = Math.max(maxRate, rates[i]);
+        }
+        long[] remainders = new long[size];
+        long distributed = 0;
+        if (total == 0) {
+            Arrays.fill(shares, 0, size, pool / size);
+            distributed = pool / size * size;
+        } else if (pool <= Long.MAX_VALUE / maxRate) {
+            for (int i = 0; i < size; i++) {
+                long product = pool * rates[from + i];
+                shares[i] = product / total;
+                remainders[i] = product % total;
+                distributed += shares[i];
+            }
+        } else {
+            BigInteger bigPool = BigInteger.valueOf(pool);
+            BigInteger bigTotal = BigInteger.valueOf(total);
+            for (int i = 0; i < size; i++) {
+                BigInteger[] division = bigPool.multiply(BigInteger.valueOf(rates[from + i])).divideAndRemainder(bigTotal);
+                shares[i] = division[0].longValueExact();
+                remainders[i] = division[1].longValueExact();
+                distributed += shares[i];
+            }
+        }
+        awardLeftover((int) (pool - distributed), remainders, shares);
+    }
+
+    /**
+     * Gives one cent each to the {@code leftover} largest remainders; among equal remainders the lower index wins.
+     */
+    private static void awardLeftover(int leftover, long[] remainders, long[] shares) {
+        if (leftover == 0) {
+            return;
+        }
+        long[] sorted = remainders.clone();
+        Arrays.sort(sorted);
+        long threshold = sorted[sorted.length - leftover];
+        for (int i = 0; i < remainders.length; i++) {
+            if (remainders[i] > threshold) {
+                shares[i]++;
+                leftover--;
+            }
+        }
+        for (int i = 0; i < remainders.length && leftover > 0; i++) {
+            if (remainders[i] == threshold) {
+                shares[i]++;
+                leftover--;
+            }
+        }
+    }
+
+    private final class DistributeTask extends RecursiveAction {
+
+        private final long[] poolAreaIds;
+        private final long[] poolCents;
+        private final AreaShares[] results;
+        private final int from;
+        private final int to;
+
+        private DistributeTask(long[] poolAreaIds, long[] poolCents, AreaShares[] results, int from, int to) {
+            this.poolAreaIds = poolAreaIds;
+            this.poolCents = poolCents;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1 && employeesIn(from, to) > SEQUENTIAL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new DistributeTask(poolAreaIds, poolCents, results, from, middle),
+                        new DistributeTask(poolAreaIds, poolCents, results, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                results[i] = distribute(poolAreaIds[i], poolCents[i]);
+            }
+        }
+
+        private long employeesIn(int fromPool, int toPool) {
+            long employees = 0;
+            for (int i = fromPool; i < toPool; i++) {
+                employees += TipRoster.this.employeesIn(poolAreaIds[i]);
+            }
+            return employees;
+        }
+    }
+
+    /**
+     * The shares of one area, in cents, aligned with a slice of the roster's employee ids.
+     */
+    public static final class AreaShares {
+
+        private final long areaId;
+        private final long pool;
+        private final long[] employeeIds;
+        private final int offset;
+        private final long[] shares;
+
+        private AreaShares(long areaId, long pool, long[] employeeIds, int offset, long[] shares) {
+            this.areaId = areaId;
+            this.pool = pool;
+            this.employeeIds = employeeIds;
+            this.offset = offset;
+            this.shares = shares;
+        }
+
+        public long getAreaId() {
+            return areaId;
+        }
+
+        public long getPool() {
+            return pool;
+        }
+
+        public int size() {
+            return shares.length;
+        }
+
+        public long employeeId(int index) {
+            return employeeIds[offset + index];
+        }
+
+        public long share(int index) {
+            return shares[index];
+        }
+
+        public long distributed() {
+            long distributed = 0;
+            for (long share : shares) {
+                distributed += share;
+            }
+            return distributed;
+        }
+    }
+
+    /**
+     * Collects employees in area and id order, as the roster query returns them.
+     */
+    public static final class Builder {
+
+        private long[] areaIds = new long[16];
+        private int[] areaOffsets = new int[17];
+        private int areas;
+        private long[] employeeIds = new long[1024];
+        private long[] tipRates = new long[1024];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(long areaId, long employeeId, long tipRateCents) {
+            if (areas == 0 || areaIds[areas - 1] != areaId) {
+                if (areas > 0 && areaIds[areas - 1] > areaId) {
+                    throw new IllegalArgumentException("Employees must be added in area order.");
+                }
+                if (areas == areaIds.length) {
+                    areaIds = Arrays.copyOf(areaIds, areas * 2);
+                    areaOffsets = Arrays.copyOf(areaOffsets, areas * 2 + 1);
+                }
+                areaIds[areas] = areaId;
+                areaOffsets[areas] = size;
+                areas++;
+            }
+            if (size == employeeIds.length) {
+                employeeIds = Arrays.copyOf(employeeIds, size * 2);
+                tipRates = Arrays.copyOf(tipRates, size * 2);
+            }
+            employeeIds[size] = employeeId;
+            tipRates[size] = Math.max(tipRateCents, 0);
+            size++;
+            return this;
+        }
+
+        public TipRoster build() {
+            int[] offsets = Arrays.copyOf(areaOffsets, areas + 1);
+            offsets[areas] = size;
+            return new TipRoster(Arrays.copyOf(areaIds, areas), offsets,
+                    Arrays.copyOf(employeeIds, size), Arrays.copyOf(tipRates, size));
+        }
+    }
+}
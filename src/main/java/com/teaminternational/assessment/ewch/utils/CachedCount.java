@@ -0,0 +1,32 @@
+package com.teaminternational.assessment.ewch.utils;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Row count that is recomputed at most once per time-to-live, for the approximate totals of keyset pages.
+ */
+public final class CachedCount {
+
+    private final long timeToLiveNanos;
+    private volatile long value;
+    private volatile long expiresAt;
+    private volatile boolean valid;
+
+    public CachedCount(long timeToLiveMillis) {
+        this.timeToLiveNanos = timeToLiveMillis * 1_000_000L;
+    }
+
+    public long get(LongSupplier counter) {
+        long now = System.nanoTime();
+        if (!valid || now - expiresAt > 0) {
+            value = counter.getAsLong();
+            expiresAt = now + timeToLiveNanos;
+            valid = true;
+        }
+        return value;
+    }
+
+    public void invalidate() {
+        valid = false;
+    }
+}
@@ -13,4 +13,31 @@ public final class Constants {
     public static final String AREA = "area";
     public static final String JOB_TITLE = "job_title";
     public static final int MINIMUM_AGE_TO_WORK = 18;
+    public static final int DEFAULT_CURSOR_PAGE_SIZE = 20;
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+    public static final int DEFAULT_UPCOMING_DAYS = 7;
+    public static final int MAX_UPCOMING_DAYS = 90;
+    public static final int MAX_AGE = 150;
+    public static final long APPROXIMATE_TOTAL_TTL_MILLIS = 30_000L;
+    public static final String STREAM_FETCH_SIZE = "500";
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final String API_KEY_HEADER = "X-API-Key";
+    public static final int JDBC_BATCH_SIZE = 50;
+    public static final int MAX_BULK_SIZE = 50_000;
+    public static final int BULK_LOOKUP_CHUNK_SIZE = 1_000;
+    public static final String BULK_RESULT = "result";
+    public static final String DELETED = "deleted";
+    public static final String STATUS_ACTIVE = "active";
+    public static final String STATUS_INACTIVE = "inactive";
+    public static final String STATISTICS_AREAS = "areas";
+    public static final String STATISTICS_JOB_TITLES = "jobTitles";
+    public static final String STATISTICS_COUNTRIES = "countries";
+    public static final String STATISTICS_STATUS = "status";
+    public static final String TIP_DISTRIBUTION = "distribution";
+    public static final String CACHE_REGION_AREAS = "areas";
+    public static final String CACHE_REGION_AREA_JOB_TITLES = "areas.jobTitles";
+    public static final String CACHE_REGION_JOB_TITLES = "jobTitles";
+    public static final String CACHE_REGION_COUNTRIES = "countries";
+    public static final String CACHE_REGION_FIND_BY_NAME = "query.findByName";
 }
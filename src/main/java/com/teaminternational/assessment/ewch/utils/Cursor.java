@@ -0,0 +1,59 @@
+package com.teaminternational.assessment.ewch.utils;
+
+import com.teaminternational.assessment.ewch.exception.InvalidCursorException;
+import com.teaminternational.assessment.ewch.model.dto.CursorPageDto;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Position of the last row of a keyset page: the sort key and the id used as tie breaker.
+ * Clients only ever see the opaque token produced by {@link #encode()}.
+ */
+@Getter
+public final class Cursor {
+
+    private static final char SEPARATOR = ':';
+
+    private final String sortKey;
+    private final Long id;
+
+    public Cursor(String sortKey, Long id) {
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = id.toString() + SEPARATOR + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new Cursor(raw.substring(separator + 1), Long.valueOf(raw.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException(ErrorMessages.INVALID_CURSOR, e);
+        }
+    }
+
+    public static Pageable pageable(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, Constants.MAX_CURSOR_PAGE_SIZE)));
+    }
+
+    public static <E, D> CursorPageDto<D> toPage(Slice<E> slice, Function<E, D> mapper,
+                                                 Function<E, Cursor> cursorOf, Long approximateTotal) {
+        List<E> rows = slice.getContent();
+        List<D> content = rows.stream().map(mapper).collect(Collectors.toList());
+        String nextCursor = slice.hasNext() ? cursorOf.apply(rows.get(rows.size() - 1)).encode() : null;
+        return new CursorPageDto<>(content, content.size(), slice.hasNext(), nextCursor, approximateTotal);
+    }
+}
@@ -1,17 +1,51 @@
 package com.teaminternational.assessment.ewch.utils;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Period;
 
 public final class DateUtils {
 
+    private static final Clock CLOCK = Clock.systemDefaultZone();
+
+    private static volatile Today today = new Today(CLOCK);
+
+    /**
+     * Current date, resolved once per day instead of once per call.
+     */
+    public static LocalDate today() {
+        Today current = today;
+        if (CLOCK.millis() >= current.nextDayMillis) {
+            current = new Today(CLOCK);
+            today = current;
+        }
+        return current.date;
+    }
+
     public static int getYearsInstantDifferenceFromNow(LocalDate localDate) {
-        LocalDate currentDate = LocalDate.now();
-        Period yearsDifference = Period.between(localDate, currentDate);
+        Period yearsDifference = Period.between(localDate, today());
         return yearsDifference.getYears();
     }
 
     public static boolean isAbleToWork(LocalDate localDate) {
         return getYearsInstantDifferenceFromNow(localDate) >= Constants.MINIMUM_AGE_TO_WORK;
     }
+
+    /**
+     * Month and day as MMDD, matching the birth_month_day and hire_month_day columns of employees.
+     */
+    public static int monthDay(LocalDate localDate) {
+        return localDate.getMonthValue() * 100 + localDate.getDayOfMonth();
+    }
+
+    private static final class Today {
+
+        private final LocalDate date;
+        private final long nextDayMillis;
+
+        private Today(Clock clock) {
+            this.date = LocalDate.now(clock);
+            this.nextDayMillis = date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        }
+    }
 }
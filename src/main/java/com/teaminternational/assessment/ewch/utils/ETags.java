@@ -0,0 +1,95 @@
+package com.teaminternational.assessment.ewch.utils;
+
+import com.teaminternational.assessment.ewch.exception.PreconditionFailedException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+
+/**
+ * Strong entity tags built from entity versions. Every tag carries the start time of this instance, so tags
+ * handed out before a restart (when the in-memory database is seeded again) never match. Collection and embedded
+ * versions come from the per-JVM counters of {@link com.teaminternational.assessment.ewch.event.CollectionVersionListener},
+ * so a tag is only ever matched by the instance that issued it.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ETags {
+
+    private static final String EPOCH = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private static final String SEPARATOR = "-";
+    private static final String ANY = "*";
+
+    /**
+     * Tag of a single resource: its own version plus a version of the data embedded in its representation.
+     */
+    public static String of(Long id, long version, long embeddedVersion) {
+        return quote(EPOCH + SEPARATOR + id + SEPARATOR + version + SEPARATOR + embeddedVersion);
+    }
+
+    public static String ofCollection(long version) {
+        return quote(EPOCH + SEPARATOR + version);
+    }
+
+    /**
+     * Returns the version the If-Match tag was built from, or {@code null} when there is no condition.
+     * Weak, foreign or stale tags can never match, so they fail the precondition right away.
+     */
+    public static Long versionFromIfMatch(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 1 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            String[] parts = tag.substring(1, tag.length() - 1).split(SEPARATOR);
+            if (parts.length == 4 && EPOCH.equals(parts[0]) && id.toString().equals(parts[1])) {
+                try {
+                    return Long.parseLong(parts[2]);
+                } catch (NumberFormatException e) {
+                    throw new PreconditionFailedException(ErrorMessages.PRECONDITION_FAILED);
+                }
+            }
+        }
+        throw new PreconditionFailedException(ErrorMessages.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Weak comparison of an If-None-Match header against the current tag, as the servlet request is not at hand
+     * on the executor thread that builds the response.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (ANY.equals(tag) || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The same tag is handed out for the JSON, CBOR and Smile representations, so shared caches must key them by Accept.
+     */
+    public static HttpHeaders headers(String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setVary(Collections.singletonList(HttpHeaders.ACCEPT));
+        return headers;
+    }
+
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers(etag)).build();
+    }
+
+    private static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+}
@@ -19,6 +19,23 @@ public class ErrorMessages {
     public static final String COUNTRY_THREE_CHAR_CODE_EMPTY = "Country three char code cannot be null or empty.";
     public static final String STATUS_NOT_EMPTY = "Status cannot be null or empty.";
     public static final String ERROR_EMPLOYEE_NOT_ABLE_TO_WORK = "Employee should be 18 years old or higher.";
+    public static final String INVALID_CURSOR = "Cursor is not valid.";
+    public static final String SERVER_BUSY = "Server is busy, try again later.";
+    public static final String PRECONDITION_FAILED = "Resource has been modified, get it again before updating.";
+    public static final String ERROR_WRITING_DATA = "Error writing data, it conflicts with the stored data.";
+    public static final String USERNAME_DUPLICATED_IN_BATCH = "Username is repeated in the batch.";
+    public static final String JOB_TITLE_NOT_FOUND = "Job title does not exist.";
+    public static final String COUNTRY_NOT_FOUND = "Country does not exist.";
+    public static final String BULK_SIZE_EXCEEDED = "Bulk request cannot contain more than 50000 employees.";
+    public static final String BULK_EMPTY = "Bulk request cannot be empty.";
+    public static final String ERROR_SAVING_EMPLOYEES = "Some employees could not be saved.";
+    public static final String PATCH_EMPTY = "Request must contain at least one field to update.";
+    public static final String SUCCESS_SAVING_EMPLOYEES = "Employees have been saved successfully!";
+    public static final String SUCCESS_DELETED_EMPLOYEES = "Employees have been deleted successfully!";
+    public static final String TIP_POOLS_EMPTY = "Tip pools cannot be empty.";
+    public static final String INVALID_TIP_POOL = "Tip pools must be non-negative amounts with at most two decimals: ";
+    public static final String SUCCESS_DISTRIBUTING_TIPS = "Tips have been distributed successfully!";
+    public static final String TOO_MANY_REQUESTS = "Too many requests, try again later.";
 
     public static final String EMPLOYEE_NOT_FOUND_WITH_ID = "Employee not found with id: ";
     public static final String EMPLOYEE_NOT_FOUND_WITH_USERNAME = "Employee not found with username: ";
@@ -33,6 +50,7 @@ public class ErrorMessages {
 
     public static final String COUNTRY_NOT_FOUND_WITH_ID = "Country not found with id: ";
     public static final String COUNTRY_NOT_FOUND_WITH_NAME = "Country not found with name: ";
+    public static final String COUNTRY_NOT_FOUND_WITH_CODE = "Country not found with code: ";
     public static final String ERROR_CREATING_COUNTRY = "Error creating country.";
     public static final String ERROR_UPDATING_COUNTRY = "Error updating country.";
     public static final String ERROR_UPDATING_COUNTRY_WITH_ID = "Error, it couldn't update country. It doesn't exist in the database!";
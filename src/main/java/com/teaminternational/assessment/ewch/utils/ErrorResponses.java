@@ -0,0 +1,78 @@
+package com.teaminternational.assessment.ewch.utils;
+
+import com.teaminternational.assessment.ewch.model.dto.ResponseDto;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Error responses whose body never varies, built once and handed out to every request that needs them. Neither
+ * {@link ResponseDto} nor a {@link ResponseEntity} can be changed once built, so sharing them is safe, and a client
+ * probing for missing ids costs no allocation beyond the lookup.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ErrorResponses {
+
+    private static final ResponseEntity<ResponseDto<?>> EMPLOYEE_NOT_FOUND =
+            notFound(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID, Constants.EMPLOYEE);
+    private static final ResponseEntity<ResponseDto<?>> COUNTRY_NOT_FOUND =
+            notFound(ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID, Constants.AREA);
+    private static final ResponseEntity<ResponseDto<?>> AREA_NOT_FOUND =
+            notFound(ErrorMessages.AREA_NOT_FOUND_WITH_ID, Constants.AREA);
+    private static final ResponseEntity<ResponseDto<?>> JOB_TITLE_NOT_FOUND =
+            notFound(ErrorMessages.JOB_TITLE_NOT_FOUND_WITH_ID, Constants.JOB_TITLE);
+    private static final ResponseEntity<ResponseDto<?>> EMPLOYEE_NOT_ABLE_TO_WORK =
+            new ResponseEntity<>(ResponseDto.error(ErrorMessages.ERROR_EMPLOYEE_NOT_ABLE_TO_WORK), HttpStatus.BAD_REQUEST);
+    private static final ResponseEntity<ResponseDto<?>> PRECONDITION_FAILED =
+            new ResponseEntity<>(ResponseDto.error(ErrorMessages.PRECONDITION_FAILED), HttpStatus.PRECONDITION_FAILED);
+    private static final ResponseEntity<ResponseDto<?>> DATA_CONFLICT =
+            new ResponseEntity<>(ResponseDto.error(ErrorMessages.ERROR_WRITING_DATA), HttpStatus.BAD_REQUEST);
+
+    public static <T> ResponseEntity<ResponseDto<T>> employeeNotFound() {
+        return cast(EMPLOYEE_NOT_FOUND);
+    }
+
+    public static <T> ResponseEntity<ResponseDto<T>> countryNotFound() {
+        return cast(COUNTRY_NOT_FOUND);
+    }
+
+    public static <T> ResponseEntity<ResponseDto<T>> areaNotFound() {
+        return cast(AREA_NOT_FOUND);
+    }
+
+    public static <T> ResponseEntity<ResponseDto<T>> jobTitleNotFound() {
+        return cast(JOB_TITLE_NOT_FOUND);
+    }
+
+    public static <T> ResponseEntity<ResponseDto<T>> employeeNotAbleToWork() {
+        return cast(EMPLOYEE_NOT_ABLE_TO_WORK);
+    }
+
+    public static <T> ResponseEntity<ResponseDto<T>> preconditionFailed() {
+        return cast(PRECONDITION_FAILED);
+    }
+
+    public static <T> ResponseEntity<ResponseDto<T>> dataConflict() {
+        return cast(DATA_CONFLICT);
+    }
+
+    /**
+     * A not found response for a lookup by something other than the id, e.g. a name, which is part of the message.
+     */
+    public static <T> ResponseEntity<ResponseDto<T>> notFound(String error, String name, String value) {
+        return new ResponseEntity<>(ResponseDto.error(error.concat(value), name), HttpStatus.NOT_FOUND);
+    }
+
+    private static ResponseEntity<ResponseDto<?>> notFound(String error, String name) {
+        return new ResponseEntity<>(ResponseDto.error(error, name), HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * The shared bodies carry no resource, so they fit any resource type.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> ResponseEntity<ResponseDto<T>> cast(ResponseEntity<ResponseDto<?>> response) {
+        return (ResponseEntity<ResponseDto<T>>) (ResponseEntity<?>) response;
+    }
+}
@@ -0,0 +1,68 @@
+package com.teaminternational.assessment.ewch.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes records to the response one by one as the source produces them, so nothing but the
+ * current record is held in memory and the servlet container sends the body in chunks.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsonStreams {
+
+    public static <T> StreamingResponseBody jsonArray(ObjectMapper objectMapper, Consumer<Consumer<T>> source) {
+        return outputStream -> {
+            try (JsonGenerator generator = createGenerator(objectMapper, outputStream)) {
+                generator.writeStartArray();
+                source.accept(record -> write(generator, record));
+                generator.writeEndArray();
+            } catch (UncheckedIOException uioe) {
+                throw uioe.getCause();
+            }
+        };
+    }
+
+    public static <T> StreamingResponseBody ndjson(ObjectMapper objectMapper, Consumer<Consumer<T>> source) {
+        return outputStream -> {
+            try (JsonGenerator generator = createGenerator(objectMapper, outputStream)) {
+                generator.setRootValueSeparator(null);
+                source.accept(record -> {
+                    write(generator, record);
+                    writeNewLine(generator);
+                });
+            } catch (UncheckedIOException uioe) {
+                throw uioe.getCause();
+            }
+        };
+    }
+
+    private static JsonGenerator createGenerator(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        return objectMapper.getFactory()
+                .createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private static void write(JsonGenerator generator, Object record) {
+        try {
+            generator.writeObject(record);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private static void writeNewLine(JsonGenerator generator) {
+        try {
+            generator.writeRaw('\n');
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+}
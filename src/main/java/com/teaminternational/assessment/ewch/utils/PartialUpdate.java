@@ -0,0 +1,82 @@
+package com.teaminternational.assessment.ewch.utils;
+
+import com.teaminternational.assessment.ewch.exception.FieldIsNullOrEmptyException;
+import com.teaminternational.assessment.ewch.exception.PreconditionFailedException;
+import com.teaminternational.assessment.ewch.exception.ResourceNotFoundException;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+/**
+ * Builds the single {@code UPDATE ... SET <supplied columns>, version = version + 1 WHERE id = ?} behind a PATCH,
+ * so the row is never read first. A {@code null} value means the field was not supplied and leaves the column out.
+ * Bulk updates skip the entity listeners, so callers keep their in-memory indexes and collection versions in sync.
+ */
+public final class PartialUpdate<T> {
+
+    private static final String ID = "id";
+    private static final String VERSION = "version";
+
+    private final EntityManager entityManager;
+    private final Class<T> entityType;
+    private final CriteriaBuilder builder;
+    private final CriteriaUpdate<T> update;
+    private final Root<T> root;
+    private int assignments;
+
+    public PartialUpdate(EntityManager entityManager, Class<T> entityType) {
+        this.entityManager = entityManager;
+        this.entityType = entityType;
+        this.builder = entityManager.getCriteriaBuilder();
+        this.update = builder.createCriteriaUpdate(entityType);
+        this.root = update.from(entityType);
+    }
+
+    public PartialUpdate<T> set(String attribute, Object value) {
+        if (value != null) {
+            update.set(attribute, value);
+            assignments++;
+        }
+        return this;
+    }
+
+    /**
+     * Points an association at another row by id, through a reference that is never loaded.
+     */
+    public PartialUpdate<T> setReference(String attribute, Class<?> referenceType, Object id) {
+        return set(attribute, id == null ? null : entityManager.getReference(referenceType, id));
+    }
+
+    /**
+     * Runs the update. Only when no row was updated is the table read again, to tell a missing id (404) from a stale
+     * If-Match version (412).
+     */
+    public void execute(Long id, Long expectedVersion, String notFoundMessage) {
+        if (assignments == 0) {
+            throw new FieldIsNullOrEmptyException(ErrorMessages.PATCH_EMPTY);
+        }
+        update.set(root.<Long>get(VERSION), builder.sum(root.<Long>get(VERSION), 1L));
+        Predicate where = builder.equal(root.get(ID), id);
+        if (expectedVersion != null) {
+            where = builder.and(where, builder.equal(root.get(VERSION), expectedVersion));
+        }
+        update.where(where);
+        if (entityManager.createQuery(update).executeUpdate() == 0) {
+            if (expectedVersion != null && exists(id)) {
+                throw new PreconditionFailedException(ErrorMessages.PRECONDITION_FAILED);
+            }
+            throw new ResourceNotFoundException(notFoundMessage.concat(id.toString()));
+        }
+    }
+
+    private boolean exists(Long id) {
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<T> row = query.from(entityType);
+        query.select(builder.count(row)).where(builder.equal(row.get(ID), id));
+        return entityManager.createQuery(query).getSingleResult() > 0;
+    }
+}
@@ -2,32 +2,38 @@ package com.teaminternational.assessment.ewch.utils;
 
 import com.teaminternational.assessment.ewch.exception.EmployeeNotAbleToWorkException;
 import com.teaminternational.assessment.ewch.exception.FieldIsNullOrEmptyException;
+import com.teaminternational.assessment.ewch.exception.InvalidArgumentException;
 import com.teaminternational.assessment.ewch.exception.ResourceNotFoundException;
 import com.teaminternational.assessment.ewch.model.dto.AreaDto;
 import com.teaminternational.assessment.ewch.model.dto.CountryDto;
 import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.model.dto.EmployeePatchDto;
 import com.teaminternational.assessment.ewch.model.dto.JobTitleDto;
+import com.teaminternational.assessment.ewch.model.dto.ResponseDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.validation.BindingResult;
 
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class Validations {
 
-    public static boolean checkHasErrors(BindingResult result, Map<String, Object> response) {
-        if (result.hasErrors()) {
-            List<String> errors = result.getFieldErrors()
-                    .stream()
-                    .map(err -> "Field '" + err.getField() + "' " + err.getDefaultMessage())
-                    .collect(Collectors.toList());
-            response.put(Constants.ERROR, errors);
-            return true;
-        }
-        return false;
+    /**
+     * The bean validation failures of a request body, one message per field.
+     */
+    public static <T> ResponseDto<T> fieldErrors(BindingResult result) {
+        List<String> errors = result.getFieldErrors()
+                .stream()
+                .map(err -> "Field '" + err.getField() + "' " + err.getDefaultMessage())
+                .collect(Collectors.toList());
+        return ResponseDto.errors(errors);
     }
 
     public static void validateFieldsEmployeeDto(EmployeeDto employeeDto) {
@@ -60,6 +66,49 @@ public final class Validations {
         }
     }
 
+    /**
+     * Validates every item of a bulk request and returns the error message of each invalid one by position.
+     * Usernames repeated inside the batch are rejected after their first occurrence.
+     */
+    public static Map<Integer, String> validateFieldsEmployeeDtos(List<EmployeeDto> employeeDtos) {
+        Map<Integer, String> errors = new HashMap<>();
+        Set<String> usernames = new HashSet<>();
+        for (int i = 0; i < employeeDtos.size(); i++) {
+            EmployeeDto employeeDto = employeeDtos.get(i);
+            if (employeeDto != null && employeeDto.getDateOfBirth() == null) {
+                errors.put(i, ErrorMessages.DATE_OF_BIRTH_NOT_EMPTY);
+                continue;
+            }
+            try {
+                validateFieldsEmployeeDto(employeeDto);
+                if (!usernames.add(employeeDto.getUsername())) {
+                    errors.put(i, ErrorMessages.USERNAME_DUPLICATED_IN_BATCH);
+                }
+            } catch (ResourceNotFoundException | EmployeeNotAbleToWorkException | FieldIsNullOrEmptyException e) {
+                errors.put(i, e.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Every pool must be a whole number of cents, zero or more.
+     */
+    public static void validateTipPools(Map<Long, BigDecimal> pools) {
+        if (pools == null || pools.isEmpty()) {
+            throw new FieldIsNullOrEmptyException(ErrorMessages.TIP_POOLS_EMPTY);
+        }
+        pools.forEach((areaId, pool) -> {
+            if (areaId == null || pool == null) {
+                throw new FieldIsNullOrEmptyException(ErrorMessages.TIP_POOLS_EMPTY);
+            }
+            if (pool.signum() < 0 || pool.stripTrailingZeros().scale() > 2
+                    || pool.movePointRight(2).compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+                throw new InvalidArgumentException(ErrorMessages.INVALID_TIP_POOL + areaId);
+            }
+        });
+    }
+
     public static void validateFieldsCountryDto(CountryDto countryDto) {
         if (countryDto == null) {
             throw new ResourceNotFoundException(ErrorMessages.RESOURCE_NOT_FOUND);
@@ -95,4 +144,50 @@ public final class Validations {
             throw new FieldIsNullOrEmptyException(ErrorMessages.AREA_NOT_EMPTY);
         }
     }
+
+    /**
+     * Validates only the fields a PATCH supplies; the ones left out are already stored and valid.
+     */
+    public static void validatePatchEmployeeDto(EmployeePatchDto employeePatchDto) {
+        if (employeePatchDto == null) {
+            throw new ResourceNotFoundException(ErrorMessages.RESOURCE_NOT_FOUND);
+        }
+        if (employeePatchDto.getDateOfBirth() != null && !DateUtils.isAbleToWork(employeePatchDto.getDateOfBirth())) {
+            throw new EmployeeNotAbleToWorkException(ErrorMessages.ERROR_EMPLOYEE_NOT_ABLE_TO_WORK);
+        }
+        validatePatchText(employeePatchDto.getName(), ErrorMessages.NAME_NOT_EMPTY);
+        validatePatchText(employeePatchDto.getUsername(), ErrorMessages.USERNAME_NOT_EMPTY);
+    }
+
+    public static void validatePatchCountryDto(CountryDto countryDto) {
+        if (countryDto == null) {
+            throw new ResourceNotFoundException(ErrorMessages.RESOURCE_NOT_FOUND);
+        }
+        validatePatchText(countryDto.getName(), ErrorMessages.NAME_NOT_EMPTY);
+        validatePatchText(countryDto.getTwoCharCode(), ErrorMessages.COUNTRY_TWO_CHAR_CODE_EMPTY);
+        validatePatchText(countryDto.getThreeCharCode(), ErrorMessages.COUNTRY_THREE_CHAR_CODE_EMPTY);
+    }
+
+    public static void validatePatchAreaDto(AreaDto areaDto) {
+        if (areaDto == null) {
+            throw new ResourceNotFoundException(ErrorMessages.RESOURCE_NOT_FOUND);
+        }
+        validatePatchText(areaDto.getName(), ErrorMessages.NAME_NOT_EMPTY);
+    }
+
+    public static void validatePatchJobTitleDto(JobTitleDto jobTitleDto) {
+        if (jobTitleDto == null) {
+            throw new ResourceNotFoundException(ErrorMessages.RESOURCE_NOT_FOUND);
+        }
+        validatePatchText(jobTitleDto.getName(), ErrorMessages.NAME_NOT_EMPTY);
+        if (jobTitleDto.getAreaId() != null && jobTitleDto.getAreaId() < 0) {
+            throw new FieldIsNullOrEmptyException(ErrorMessages.AREA_NOT_EMPTY);
+        }
+    }
+
+    private static void validatePatchText(String value, String message) {
+        if (value != null && value.isBlank()) {
+            throw new FieldIsNullOrEmptyException(message);
+        }
+    }
 }
@@ -0,0 +1,57 @@
+/* Schema as previously generated by Hibernate from the entity mappings */
+CREATE SEQUENCE employees_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE areas (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255) NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE job_titles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255) NOT NULL,
+    area_id BIGINT,
+    version BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE countries (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255) NOT NULL,
+    two_char_code VARCHAR(2) NOT NULL,
+    three_char_code VARCHAR(3) NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE employees (
+    id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    username VARCHAR(255) NOT NULL,
+    date_of_birth DATE NOT NULL,
+    hire_date DATE NOT NULL,
+    birth_month_day INT AS (MONTH(date_of_birth) * 100 + DAY_OF_MONTH(date_of_birth)),
+    hire_month_day INT AS (MONTH(hire_date) * 100 + DAY_OF_MONTH(hire_date)),
+    job_title_id BIGINT NOT NULL,
+    country_id BIGINT NOT NULL,
+    status BOOLEAN NOT NULL,
+    tip_rate DECIMAL(10, 2) DEFAULT '0.00' NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE countries ADD CONSTRAINT uk_countries_two_char_code UNIQUE (two_char_code);
+ALTER TABLE countries ADD CONSTRAINT uk_countries_three_char_code UNIQUE (three_char_code);
+ALTER TABLE employees ADD CONSTRAINT uk_employees_username UNIQUE (username);
+
+CREATE INDEX idx_job_titles_name_id ON job_titles (name, id);
+CREATE INDEX idx_countries_name_id ON countries (name, id);
+CREATE INDEX idx_employees_name_id ON employees (name, id);
+CREATE INDEX idx_employees_date_of_birth ON employees (date_of_birth);
+CREATE INDEX idx_employees_birth_month_day ON employees (birth_month_day);
+CREATE INDEX idx_employees_hire_month_day ON employees (hire_month_day);
+
+ALTER TABLE job_titles ADD CONSTRAINT fk_job_titles_area FOREIGN KEY (area_id) REFERENCES areas;
+ALTER TABLE employees ADD CONSTRAINT fk_employees_job_title FOREIGN KEY (job_title_id) REFERENCES job_titles;
+ALTER TABLE employees ADD CONSTRAINT fk_employees_country FOREIGN KEY (country_id) REFERENCES countries;
@@ -0,0 +1,26 @@
+/* Creating areas */
+INSERT INTO areas (id, name) VALUES
+    (1, 'Services'),
+    (2, 'Kitchen');
+
+/* Creating job titles */
+INSERT INTO job_titles (area_id, name) VALUES
+    (1, 'Manager'),
+    (1, 'Host'),
+    (1, 'Tuttofare'),
+    (1, 'Waitress'),
+    (1, 'Dining room manager'),
+    (2, 'Chef'),
+    (2, 'Sous Chef'),
+    (2, 'Dishwasher'),
+    (2, 'Cook');
+
+/* Creating countries */
+INSERT INTO countries (id, name, two_char_code, three_char_code)
+    SELECT * FROM CSVREAD('classpath:db/seed/countries.csv', NULL, 'charset=UTF-8');
+ALTER TABLE countries ALTER COLUMN id RESTART WITH 251;
+
+/* Creating employees */
+INSERT INTO employees (id, name, username, date_of_birth, hire_date, job_title_id, country_id, status, tip_rate)
+    SELECT * FROM CSVREAD('classpath:db/seed/employees.csv', NULL, 'charset=UTF-8');
+ALTER SEQUENCE employees_seq RESTART WITH 7;
@@ -0,0 +1,4 @@
+-- Area lookups by name (findAreaByName) were the only repository query left scanning a table.
+-- Foreign key columns (job_titles.area_id, employees.job_title_id, employees.country_id) are indexed by H2
+-- through the constraints of V1.
+CREATE INDEX idx_areas_name ON areas (name);
@@ -0,0 +1,80 @@
+package com.teaminternational.assessment.ewch;
+
+import com.teaminternational.assessment.ewch.config.ExecutionConfig;
+import com.teaminternational.assessment.ewch.config.RequestExecutor;
+import com.teaminternational.assessment.ewch.exception.ServerBusyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:async_execution_db",
+        "restaurant.execution.mode=async"
+})
+public class AsyncExecutionModeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void testRequestsCompleteThroughAsyncDispatch() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/employees/2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String etag = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employee.id").value(2))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult conditional = mockMvc.perform(get("/api/v1/employees/2").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(conditional))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    public void testFullPoolRejectsWithServerBusy() throws Exception {
+        RequestExecutor executor = new ExecutionConfig().requestExecutor(RequestExecutor.Mode.ASYNC, false, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<Boolean> running = executor.supply(() -> await(release));
+            CompletableFuture<Boolean> queued = executor.supply(() -> await(release));
+            assertThrows(ServerBusyException.class, () -> executor.supply(() -> true));
+            release.countDown();
+            assertTrue(running.get() && queued.get());
+            assertEquals("done", executor.supply(() -> "done").get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            latch.await();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.teaminternational.assessment.ewch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:binary_formats_db")
+public class BinaryFormatsTest {
+
+    private static final String EMPLOYEE = "{\"name\":\"Dana Lowe\",\"username\":\"dlowe\",\"dateOfBirth\":\"1977-10-02\","
+            + "\"hireDate\":\"2020-07-13\",\"jobTitleId\":8,\"countryId\":78,\"status\":true,\"tipRate\":0.0}";
+
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void testCountriesAreServedInEveryFormat() throws Exception {
+        byte[] json = mockMvc.perform(get("/api/v1/countries/all").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] cborBody = mockMvc.perform(get("/api/v1/countries/all").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] smileBody = mockMvc.perform(get("/api/v1/countries/all").header(HttpHeaders.ACCEPT, Constants.APPLICATION_SMILE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(Constants.APPLICATION_SMILE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode countries = objectMapper.readTree(json);
+        assertEquals(250, countries.size());
+        assertEquals(countries, cbor.readTree(cborBody));
+        assertEquals(countries, smile.readTree(smileBody));
+        assertTrue(cborBody.length < json.length);
+        assertTrue(smileBody.length < json.length);
+    }
+
+    @Test
+    public void testEmployeeIsCreatedFromSmileAndReturnedAsCbor() throws Exception {
+        byte[] body = smile.writeValueAsBytes(objectMapper.readTree(EMPLOYEE));
+        byte[] created = mockMvc.perform(post("/api/v1/employees/")
+                .contentType(Constants.APPLICATION_SMILE_VALUE)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode employee = cbor.readTree(created).get(Constants.EMPLOYEE);
+        assertEquals("dlowe", employee.get("username").asText());
+        assertEquals("1977-10-02", employee.get("dateOfBirth").asText());
+
+        byte[] found = mockMvc.perform(get("/api/v1/employees/" + employee.get("id").asLong()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals("dlowe", cbor.readTree(found).get(Constants.EMPLOYEE).get("username").asText());
+    }
+}
@@ -0,0 +1,111 @@
+package com.teaminternational.assessment.ewch;
+
+import com.jayway.jsonpath.JsonPath;
+import com.teaminternational.assessment.ewch.event.EmployeeChangedEvent;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:bulk_delete_db")
+public class BulkDeleteTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Test
+    public void testDeleteRunsOneStatementWithoutReading() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(delete("/api/v1/employees/6"))
+                .andExpect(status().isNoContent());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        mockMvc.perform(get("/api/v1/employees/6")).andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/v1/employees/6")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testBulkDeleteCountsOnlyExistingEmployees() throws Exception {
+        List<Long> deletedIds = new CopyOnWriteArrayList<>();
+        context.addApplicationListener(event -> {
+            if (event instanceof PayloadApplicationEvent && ((PayloadApplicationEvent<?>) event).getPayload() instanceof EmployeeChangedEvent) {
+                EmployeeChangedEvent changed = (EmployeeChangedEvent) ((PayloadApplicationEvent<?>) event).getPayload();
+                if (changed.isDeleted()) {
+                    deletedIds.add(changed.getId());
+                }
+            }
+        });
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(post("/api/v1/employees/bulk-delete").contentType(MediaType.APPLICATION_JSON).content("[2, 3, 998, 999]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(Set.of(2L, 3L), new HashSet<>(deletedIds));
+        assertEquals(2, deletedIds.size());
+
+        mockMvc.perform(get("/api/v1/employees/3")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/employees/search").param("q", "hduncan"))
+                .andExpect(jsonPath("$.content", hasSize(0)));
+        mockMvc.perform(post("/api/v1/employees/bulk-delete").contentType(MediaType.APPLICATION_JSON).content("[998, 999]"))
+                .andExpect(jsonPath("$.deleted").value(0));
+        assertEquals(2, deletedIds.size());
+        mockMvc.perform(post("/api/v1/employees/bulk-delete").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testDeleteAreaRemovesItsJobTitles() throws Exception {
+        String area = mockMvc.perform(post("/api/v1/areas/").contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Bar\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Integer areaId = JsonPath.read(area, "$.area.id");
+        String jobTitle = mockMvc.perform(post("/api/v1/jobTitles/").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Bartender\",\"areaId\":" + areaId + "}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Integer jobTitleId = JsonPath.read(jobTitle, "$.job_title.id");
+        mockMvc.perform(get("/api/v1/areas/" + areaId)).andExpect(jsonPath("$.area.jobTitles", hasSize(1)));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(delete("/api/v1/areas/" + areaId)).andExpect(status().isNoContent());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        mockMvc.perform(get("/api/v1/areas/" + areaId)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/jobTitles/" + jobTitleId)).andExpect(status().isNotFound());
+    }
+}
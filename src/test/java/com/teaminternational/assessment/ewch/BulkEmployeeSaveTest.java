@@ -0,0 +1,93 @@
+package com.teaminternational.assessment.ewch;
+
+import com.teaminternational.assessment.ewch.model.dto.BulkResultDto;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.service.IEmployeeService;
+import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DirtiesContext
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk_employee_db",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class BulkEmployeeSaveTest {
+
+    @Autowired
+    private IEmployeeService employeeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void testBulkSaveInsertsInJdbcBatches() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<EmployeeDto> employeeDtos = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            employeeDtos.add(employee(null, "bulk" + i));
+        }
+        statistics.clear();
+        BulkResultDto result = employeeService.bulkSaveEmployees(employeeDtos);
+        assertEquals(120, result.getCreated());
+        assertEquals(0, result.getFailed());
+        assertTrue(result.getIds().stream().allMatch(id -> id != null && id > 6));
+        assertEquals(120, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < 20);
+    }
+
+    @Test
+    public void testBulkSaveReportsItemErrorsWithoutFailingTheBatch() {
+        EmployeeDto update = employeeService.findEmployeeByUsername("atait");
+        update.setName("Amit Tait Updated");
+        EmployeeDto missingJobTitle = employee(null, "bulk-missing-job");
+        missingJobTitle.setJobTitleId(999L);
+        List<EmployeeDto> employeeDtos = Arrays.asList(
+                employee(null, "bulk-ok"),
+                employee(null, "hduncan"),
+                update,
+                employee(null, "bulk-ok"),
+                missingJobTitle);
+
+        BulkResultDto result = employeeService.bulkSaveEmployees(employeeDtos);
+
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals(3, result.getFailed());
+        assertNotNull(result.getIds().get(0));
+        assertNull(result.getIds().get(1));
+        assertEquals(update.getId(), result.getIds().get(2));
+        assertEquals(ErrorMessages.USERNAME_ALREADY_IN_USE, result.getErrors().get(0).getError());
+        assertEquals(ErrorMessages.USERNAME_DUPLICATED_IN_BATCH, result.getErrors().get(1).getError());
+        assertEquals(ErrorMessages.JOB_TITLE_NOT_FOUND, result.getErrors().get(2).getError());
+        assertEquals("Amit Tait Updated", employeeService.findEmployeeById(update.getId()).getName());
+    }
+
+    private static EmployeeDto employee(Long id, String username) {
+        EmployeeDto employeeDto = new EmployeeDto();
+        employeeDto.setId(id);
+        employeeDto.setName("Bulk " + username);
+        employeeDto.setUsername(username);
+        employeeDto.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employeeDto.setHireDate(LocalDate.of(2020, 1, 1));
+        employeeDto.setJobTitleId(1L);
+        employeeDto.setCountryId(1L);
+        employeeDto.setStatus(true);
+        return employeeDto;
+    }
+}
@@ -0,0 +1,74 @@
+package com.teaminternational.assessment.ewch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:country_code_db")
+public class CountryCodeLookupTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void testFindsSeededCountriesByEitherCode() throws Exception {
+        mockMvc.perform(get("/api/v1/countries/code/AL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.country.name").value("Albania"));
+        mockMvc.perform(get("/api/v1/countries/code/alb"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.country.twoCharCode").value("AL"));
+        mockMvc.perform(get("/api/v1/countries/code/---"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.country.name").value("Kosovo"));
+        mockMvc.perform(get("/api/v1/countries/code/QX"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/countries/code/ALBA"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testWritesRebuildTheTable() throws Exception {
+        String created = mockMvc.perform(post("/api/v1/countries/").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Freedonia\",\"twoCharCode\":\"QF\",\"threeCharCode\":\"QFD\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode country = objectMapper.readTree(created).get("country");
+        long id = country.get("id").asLong();
+        mockMvc.perform(get("/api/v1/countries/code/QFD"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.country.id").value(id));
+
+        mockMvc.perform(put("/api/v1/countries/" + id).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Freedonia\",\"twoCharCode\":\"QG\",\"threeCharCode\":\"QGD\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/countries/code/QF"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/countries/code/QG"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.country.threeCharCode").value("QGD"));
+
+        mockMvc.perform(delete("/api/v1/countries/" + id))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/countries/code/QGD"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,144 @@
+package com.teaminternational.assessment.ewch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teaminternational.assessment.ewch.exception.InvalidCursorException;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.service.IEmployeeService;
+import com.teaminternational.assessment.ewch.utils.CachedCount;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import com.teaminternational.assessment.ewch.utils.Cursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:cursor_pagination_db")
+public class CursorPaginationTest {
+
+    private static final String DUPLICATE = "{\"name\":\"Bo Dupont\",\"username\":\"%s\",\"dateOfBirth\":\"1980-03-04\","
+            + "\"hireDate\":\"2015-06-07\",\"jobTitleId\":2,\"countryId\":78,\"status\":true,\"tipRate\":0.0}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IEmployeeService employeeService;
+
+    @Test
+    public void testCursorRoundTrips() {
+        Cursor cursor = Cursor.decode(new Cursor("Álvarez: Clinton", 42L).encode());
+        assertEquals("Álvarez: Clinton", cursor.getSortKey());
+        assertEquals(42L, cursor.getId());
+        assertEquals("", Cursor.decode(new Cursor("", 1L).encode()).getSortKey());
+        assertEquals(Constants.MAX_CURSOR_PAGE_SIZE, Cursor.pageable(10_000).getPageSize());
+        assertEquals(1, Cursor.pageable(0).getPageSize());
+    }
+
+    @Test
+    public void testInvalidCursorsAreRejected() throws Exception {
+        assertThrows(InvalidCursorException.class, () -> Cursor.decode("not a cursor!"));
+        assertThrows(InvalidCursorException.class, () -> Cursor.decode("bm8tc2VwYXJhdG9y"));
+        assertThrows(InvalidCursorException.class, () -> Cursor.decode("eDpBbWl0"));
+        mockMvc.perform(get("/api/v1/employees/cursor").param("cursor", "not a cursor!"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/countries/cursor").param("cursor", "eDpBbWl0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testDuplicateNamesAcrossPagesAreNeitherSkippedNorRepeated() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/v1/employees/").contentType(MediaType.APPLICATION_JSON)
+                    .content(String.format(DUPLICATE, "bdupont" + i)))
+                    .andExpect(status().is2xxSuccessful());
+        }
+        List<Long> expected = employeeService.findAllEmployees().stream()
+                .sorted(Comparator.comparing(EmployeeDto::getName).thenComparing(EmployeeDto::getId))
+                .map(EmployeeDto::getId)
+                .collect(Collectors.toList());
+
+        List<Long> ids = walk("/api/v1/employees/cursor", 2);
+        assertEquals(expected, ids);
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+    }
+
+    @Test
+    public void testLastPageHasNoNextCursor() throws Exception {
+        List<Long> ids = walk("/api/v1/countries/cursor", Constants.MAX_CURSOR_PAGE_SIZE);
+        assertEquals(250, ids.size());
+        assertEquals(250, new HashSet<>(ids).size());
+
+        mockMvc.perform(get("/api/v1/jobTitles/cursor").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(9))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void testApproximateTotalIsOnlySentWhenAsked() throws Exception {
+        mockMvc.perform(get("/api/v1/countries/cursor").param("size", "5"))
+                .andExpect(jsonPath("$.approximateTotal").doesNotExist());
+        mockMvc.perform(get("/api/v1/countries/cursor").param("size", "5").param("total", "true"))
+                .andExpect(jsonPath("$.size").value(5))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.approximateTotal").value(250));
+    }
+
+    @Test
+    public void testCachedCountRecountsOnlyWhenInvalidated() {
+        AtomicInteger counts = new AtomicInteger();
+        CachedCount cached = new CachedCount(60_000L);
+        assertEquals(1L, cached.get(counts::incrementAndGet));
+        assertEquals(1L, cached.get(counts::incrementAndGet));
+        cached.invalidate();
+        assertEquals(2L, cached.get(counts::incrementAndGet));
+        assertEquals(2L, cached.get(counts::incrementAndGet));
+    }
+
+    /**
+     * Follows nextCursor from the first page to the last and returns the ids in the order they were served.
+     */
+    private List<Long> walk(String path, int size) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        boolean hasNext = true;
+        while (hasNext) {
+            JsonNode page = objectMapper.readTree(mockMvc.perform(get(path)
+                    .param("size", String.valueOf(size))
+                    .param("cursor", cursor == null ? "" : cursor))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray());
+            page.get("content").forEach(row -> ids.add(row.get("id").asLong()));
+            hasNext = page.get("hasNext").asBoolean();
+            cursor = hasNext ? page.get("nextCursor").asText() : null;
+            assertFalse(hasNext && cursor.isEmpty());
+            assertEquals(hasNext, page.has("nextCursor"));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,80 @@
+package com.teaminternational.assessment.ewch;
+
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.service.IEmployeeService;
+import com.teaminternational.assessment.ewch.utils.DateUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:employee_date_query_db")
+public class EmployeeDateQueryTest {
+
+    @Autowired
+    private IEmployeeService employeeService;
+
+    @Test
+    public void testAgeRangeIsInclusiveOnBothEnds() {
+        LocalDate today = DateUtils.today();
+        employeeService.createEmployee(employee("turns30today", today.minusYears(30), today));
+        employeeService.createEmployee(employee("turns32tomorrow", today.minusYears(32).plusDays(1), today));
+        employeeService.createEmployee(employee("turns33today", today.minusYears(33), today));
+
+        List<String> usernames = employeeService.findEmployeesByAge(30, 31, PageRequest.of(0, 100)).stream()
+                .map(EmployeeDto::getUsername).collect(Collectors.toList());
+
+        assertTrue(usernames.contains("turns30today"));
+        assertTrue(usernames.contains("turns32tomorrow"));
+        assertFalse(usernames.contains("turns33today"));
+    }
+
+    @Test
+    public void testUpcomingBirthdaysAreOrderedByDate() {
+        LocalDate today = DateUtils.today();
+        employeeService.createEmployee(employee("birthdayin3", today.minusYears(40).plusDays(3), today));
+        employeeService.createEmployee(employee("birthdayin1", today.minusYears(25).plusDays(1), today));
+
+        List<String> nextWeek = usernames(employeeService.findUpcomingBirthdays(7));
+        assertTrue(nextWeek.indexOf("birthdayin1") < nextWeek.indexOf("birthdayin3"));
+        assertFalse(usernames(employeeService.findUpcomingBirthdays(2)).contains("birthdayin3"));
+    }
+
+    @Test
+    public void testUpcomingHireAnniversariesSkipRecentHires() {
+        LocalDate today = DateUtils.today();
+        LocalDate dateOfBirth = today.minusYears(30);
+        employeeService.createEmployee(employee("hiredfiveyearsago", dateOfBirth, today.minusYears(5).plusDays(2)));
+        employeeService.createEmployee(employee("startsnextweek", dateOfBirth, today.plusDays(2)));
+
+        List<String> anniversaries = usernames(employeeService.findUpcomingHireAnniversaries(7));
+
+        assertTrue(anniversaries.contains("hiredfiveyearsago"));
+        assertFalse(anniversaries.contains("startsnextweek"));
+        assertEquals(30, employeeService.findEmployeeByUsername("hiredfiveyearsago").getAge());
+    }
+
+    private static List<String> usernames(List<EmployeeDto> employees) {
+        return employees.stream().map(EmployeeDto::getUsername).collect(Collectors.toList());
+    }
+
+    private static EmployeeDto employee(String username, LocalDate dateOfBirth, LocalDate hireDate) {
+        EmployeeDto employeeDto = new EmployeeDto();
+        employeeDto.setName("Date " + username);
+        employeeDto.setUsername(username);
+        employeeDto.setDateOfBirth(dateOfBirth);
+        employeeDto.setHireDate(hireDate);
+        employeeDto.setJobTitleId(1L);
+        employeeDto.setCountryId(1L);
+        employeeDto.setStatus(true);
+        return employeeDto;
+    }
+}
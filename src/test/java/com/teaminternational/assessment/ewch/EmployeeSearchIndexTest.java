@@ -0,0 +1,69 @@
+package com.teaminternational.assessment.ewch;
+
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.search.EmployeeSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EmployeeSearchIndexTest {
+
+    private EmployeeSearchIndex searchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        searchIndex = new EmployeeSearchIndex(null);
+        searchIndex.index(employee(1L, "Amit Tait", "atait"));
+        searchIndex.index(employee(2L, "Harleen Duncan", "hduncan"));
+        searchIndex.index(employee(3L, "Clinton Álvarez", "calvarez"));
+        searchIndex.index(employee(4L, "Tai Tran", "ttran"));
+    }
+
+    @Test
+    public void testSubstringMatchesAreRankedByMatchKind() {
+        assertEquals(List.of(4L, 1L), ids(searchIndex.search("tai", PageRequest.of(0, 10))));
+    }
+
+    @Test
+    public void testShortQueriesMatchWordPrefixes() {
+        assertEquals(List.of(1L, 3L), ids(searchIndex.search("A", PageRequest.of(0, 10))));
+    }
+
+    @Test
+    public void testQueryIgnoresDiacritics() {
+        assertEquals(List.of(3L), ids(searchIndex.search("alvar", PageRequest.of(0, 10))));
+    }
+
+    @Test
+    public void testResultsArePaginated() {
+        Page<Long> page = searchIndex.search("a", PageRequest.of(1, 1));
+        assertEquals(2, page.getTotalElements());
+        assertEquals(List.of(3L), page.getContent());
+    }
+
+    @Test
+    public void testUpdatesAndRemovalsAreReflected() {
+        searchIndex.index(employee(2L, "Harleen Tailor", "htailor"));
+        assertEquals(List.of(4L, 1L, 2L), ids(searchIndex.search("tai", PageRequest.of(0, 10))));
+        searchIndex.remove(4L);
+        assertTrue(ids(searchIndex.search("tran", PageRequest.of(0, 10))).isEmpty());
+    }
+
+    private static EmployeeDto employee(Long id, String name, String username) {
+        EmployeeDto employeeDto = new EmployeeDto();
+        employeeDto.setId(id);
+        employeeDto.setName(name);
+        employeeDto.setUsername(username);
+        return employeeDto;
+    }
+
+    private static List<Long> ids(Page<Long> page) {
+        return page.getContent();
+    }
+}
@@ -0,0 +1,96 @@
+package com.teaminternational.assessment.ewch;
+
+import com.teaminternational.assessment.ewch.service.IEmployeeStatisticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:employee_statistics_db")
+public class EmployeeStatisticsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IEmployeeStatisticsService employeeStatisticsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testStatisticsFollowWrites() throws Exception {
+        mockMvc.perform(get("/api/v1/stats/areas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].name").value("Services"))
+                .andExpect(jsonPath("$[0].headcount").value(3))
+                .andExpect(jsonPath("$[0].maxTipRate").value(0.9));
+
+        mockMvc.perform(patch("/api/v1/employees/1").contentType(MediaType.APPLICATION_JSON).content("{\"tipRate\":2.1}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/stats/areas"))
+                .andExpect(jsonPath("$[0].headcount").value(3))
+                .andExpect(jsonPath("$[0].averageTipRate").value(1.0))
+                .andExpect(jsonPath("$[0].minTipRate").value(0.0))
+                .andExpect(jsonPath("$[0].maxTipRate").value(2.1));
+
+        mockMvc.perform(delete("/api/v1/employees/5")).andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/stats/"))
+                .andExpect(jsonPath("$.status", hasSize(1)))
+                .andExpect(jsonPath("$.status[0].name").value("active"))
+                .andExpect(jsonPath("$.areas[1].headcount").value(2));
+
+        mockMvc.perform(patch("/api/v1/employees/6").contentType(MediaType.APPLICATION_JSON).content("{\"jobTitleId\":9}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/stats/areas"))
+                .andExpect(jsonPath("$[0].headcount").value(2))
+                .andExpect(jsonPath("$[1].name").value("Kitchen"))
+                .andExpect(jsonPath("$[1].headcount").value(3));
+        assertFalse(employeeStatisticsService.reconcile());
+    }
+
+    @Test
+    public void testReconcileRepairsDrift() throws Exception {
+        assertFalse(employeeStatisticsService.reconcile());
+        jdbcTemplate.update("UPDATE employees SET tip_rate = 5 WHERE id = 3");
+        assertTrue(employeeStatisticsService.reconcile());
+        mockMvc.perform(get("/api/v1/stats/jobTitles"))
+                .andExpect(jsonPath("$[?(@.id == 6)].maxTipRate").value(5.0));
+        assertFalse(employeeStatisticsService.reconcile());
+    }
+
+    @Test
+    public void testRenamesReachTheGroupsWithoutReconciling() throws Exception {
+        mockMvc.perform(patch("/api/v1/areas/1").contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Front of house\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/v1/countries/123").contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Renamed\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/stats/"))
+                .andExpect(jsonPath("$.areas[0].name").value("Front of house"))
+                .andExpect(jsonPath("$.countries[?(@.id == 123)].name").value("Renamed"));
+        assertFalse(employeeStatisticsService.reconcile());
+
+        mockMvc.perform(patch("/api/v1/areas/1").contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Services\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/stats/areas").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+}
@@ -0,0 +1,99 @@
+package com.teaminternational.assessment.ewch;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:entity_tag_db")
+public class EntityTagTest {
+
+    private static final String EMPLOYEE = "{\"name\":\"Devin Hawes\",\"username\":\"dhawes\",\"dateOfBirth\":\"1977-10-02\","
+            + "\"hireDate\":\"2020-07-13\",\"jobTitleId\":8,\"countryId\":78,\"status\":true,\"tipRate\":0.0}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void testMatchingIfNoneMatchReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/employees/2"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        mockMvc.perform(get("/api/v1/employees/2").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void testUnconditionalGetRunsOneQueryAndTagsWhatItRead() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        String etag = mockMvc.perform(get("/api/v1/employees/4"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        mockMvc.perform(get("/api/v1/employees/4").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch("/api/v1/countries/200").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Renamed\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/employees/4").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testCollectionTagChangesAfterWrite() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/countries/all"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/v1/countries/all").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(put("/api/v1/countries/3").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Republic of Albania\",\"twoCharCode\":\"AL\",\"threeCharCode\":\"ALB\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/countries/all").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testPutHonorsIfMatch() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/employees/5"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(put("/api/v1/employees/5").contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, etag).content(EMPLOYEE))
+                .andExpect(status().isCreated());
+        mockMvc.perform(put("/api/v1/employees/5").contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, etag).content(EMPLOYEE))
+                .andExpect(status().isPreconditionFailed());
+        String newEtag = mockMvc.perform(get("/api/v1/employees/5").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+}
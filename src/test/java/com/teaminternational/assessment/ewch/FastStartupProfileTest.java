@@ -0,0 +1,33 @@
+package com.teaminternational.assessment.ewch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("fast")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:fast_startup_db")
+public class FastStartupProfileTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void testLazyContextServesRequests() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employee.username").value("atait"));
+        mockMvc.perform(get("/api/v1/employees/search").param("q", "tait"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].username").value("atait"));
+        mockMvc.perform(get("/v2/api-docs"))
+                .andExpect(status().isNotFound());
+    }
+}
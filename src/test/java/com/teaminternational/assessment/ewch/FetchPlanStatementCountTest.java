@@ -0,0 +1,97 @@
+package com.teaminternational.assessment.ewch;
+
+import com.teaminternational.assessment.ewch.model.dto.AreaDto;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.service.IAreaService;
+import com.teaminternational.assessment.ewch.service.IEmployeeService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fetch_plan_db",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class FetchPlanStatementCountTest {
+
+    @Autowired
+    private IEmployeeService employeeService;
+
+    @Autowired
+    private IAreaService areaService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testFindAllEmployeesRunsOneStatement() {
+        List<EmployeeDto> employees = employeeService.findAllEmployees();
+        assertEquals(6, employees.size());
+        assertNotNull(employees.get(0).getAreaName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void testFindAllEmployeesPageableRunsSelectAndCount() {
+        Page<EmployeeDto> employees = employeeService.findAllEmployees(PageRequest.of(0, 3));
+        assertEquals(3, employees.getNumberOfElements());
+        assertNotNull(employees.getContent().get(0).getCountryName());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void testFindEmployeeByIdRunsOneStatement() {
+        EmployeeDto employee = employeeService.findEmployeeById(1L);
+        assertEquals("Services", employee.getAreaName());
+        assertTrue(employee.getAge() > 0);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void testFindAllAreasRunsOneStatement() {
+        List<AreaDto> areas = areaService.findAllAreas();
+        assertEquals(2, areas.size());
+        assertEquals(5, areas.get(0).getJobTitles().size());
+        assertEquals(areas.get(0).getName(), areas.get(0).getJobTitles().get(0).getAreaName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void testFindAllAreasPageableBatchesJobTitles() {
+        Page<AreaDto> areas = areaService.findAllAreas(PageRequest.of(0, 3));
+        assertEquals(2, areas.getNumberOfElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindAreaByIdRunsOneStatement() {
+        AreaDto area = areaService.findAreaById(2L);
+        assertEquals(4, area.getJobTitles().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
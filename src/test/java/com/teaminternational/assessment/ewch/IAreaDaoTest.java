@@ -26,14 +26,14 @@ public class IAreaDaoTest {
     @Test
     public void testFindById1() {
         Optional<Area> areaWithId1 = areaDao.findById(1L);
-        Area expectedArea = new Area(1L, "Services", null);
+        Area expectedArea = new Area(1L, "Services", null, 0L);
         assertEquals(expectedArea.getId(), areaWithId1.get().getId());
     }
 
     @Test
     public void testFindByNameServices() {
         Optional<Area> areaWithId1 = areaDao.findById(1L);
-        Area expectedArea = new Area(1L, "Services", null);
+        Area expectedArea = new Area(1L, "Services", null, 0L);
         assertEquals(expectedArea.getName(), areaWithId1.get().getName());
     }
 }
@@ -0,0 +1,100 @@
+package com.teaminternational.assessment.ewch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.teaminternational.assessment.ewch.model.dto.EmployeeDto;
+import com.teaminternational.assessment.ewch.model.dto.ResponseDto;
+import com.teaminternational.assessment.ewch.service.IEmployeeService;
+import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:json_fast_path_db")
+public class JsonFastPathTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IEmployeeService employeeService;
+
+    @Test
+    public void testEmployeeSerializerMatchesBeanSerializer() throws Exception {
+        ObjectMapper reflective = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        EmployeeDto employeeDto = employeeService.findEmployeeById(2L);
+        assertEquals(reflective.readTree(reflective.writeValueAsBytes(employeeDto)),
+                objectMapper.readTree(objectMapper.writeValueAsBytes(employeeDto)));
+
+        EmployeeDto partial = new EmployeeDto();
+        partial.setName("Partial");
+        partial.setHireDate(LocalDate.of(2020, 7, 13));
+        assertEquals(reflective.readTree(reflective.writeValueAsBytes(partial)),
+                objectMapper.readTree(objectMapper.writeValueAsBytes(partial)));
+    }
+
+    @Test
+    public void testPageIsWrittenWithoutPageableAndSort() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/").param("size", "2").param("sort", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].username").value("atait"))
+                .andExpect(jsonPath("$.number").value(0))
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.totalElements").value(6))
+                .andExpect(jsonPath("$.totalPages").value(3))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.sort").doesNotExist());
+    }
+
+    @Test
+    public void testLookupEnvelopeKeepsItsShape() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").exists())
+                .andExpect(jsonPath("$.employee.username").value("atait"))
+                .andExpect(jsonPath("$.employee.dateOfBirth").isString());
+        mockMvc.perform(get("/api/v1/employees/username/nobody"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").exists())
+                .andExpect(jsonPath("$.employee").value((Object) null));
+    }
+
+    @Test
+    public void testWriteEnvelopeKeepsItsShape() throws Exception {
+        mockMvc.perform(patch("/api/v1/employees/1").contentType(MediaType.APPLICATION_JSON).content("{\"status\":true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.SUCCESS_UPDATING_EMPLOYEE))
+                .andExpect(jsonPath("$.employee").doesNotExist());
+        mockMvc.perform(post("/api/v1/employees/bulk-delete").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(ErrorMessages.BULK_EMPTY));
+        assertEquals(objectMapper.readTree("{\"error\":[\"Field 'name' must not be empty\"]}"),
+                objectMapper.readTree(objectMapper.writeValueAsBytes(
+                        ResponseDto.errors(Collections.singletonList("Field 'name' must not be empty")))));
+    }
+}
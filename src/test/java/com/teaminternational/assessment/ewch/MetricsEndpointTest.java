@@ -0,0 +1,38 @@
+package com.teaminternational.assessment.ewch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:metrics_db")
+public class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void testScrapeExposesLatencyErrorsHibernateAndPool() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/all")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/employees/999")).andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "restaurant_method_seconds{class=\"EmployeeServiceImpl\",exception=\"none\",method=\"findAllEmployees\",quantile=\"0.999\",}")))
+                .andExpect(content().string(containsString(
+                        "restaurant_method_seconds_count{class=\"EmployeeServiceImpl\",exception=\"none\",method=\"findAllEmployees\",}")))
+                .andExpect(content().string(containsString("restaurant_errors_total{exception=\"ResourceNotFoundException\",}")))
+                .andExpect(content().string(not(containsString("class=\"EmployeeController\""))))
+                .andExpect(content().string(containsString("hibernate_statements_total")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+}
@@ -0,0 +1,104 @@
+package com.teaminternational.assessment.ewch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teaminternational.assessment.ewch.controller.RestExceptionHandler;
+import com.teaminternational.assessment.ewch.exception.EmployeeNotAbleToWorkException;
+import com.teaminternational.assessment.ewch.exception.FieldIsNullOrEmptyException;
+import com.teaminternational.assessment.ewch.exception.InvalidCursorException;
+import com.teaminternational.assessment.ewch.exception.PreconditionFailedException;
+import com.teaminternational.assessment.ewch.exception.ResourceNotFoundException;
+import com.teaminternational.assessment.ewch.service.ICountryService;
+import com.teaminternational.assessment.ewch.service.IEmployeeService;
+import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:not_found_path_db")
+public class NotFoundPathTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IEmployeeService employeeService;
+
+    @Autowired
+    private ICountryService countryService;
+
+    @Test
+    public void testMissingIdsKeepTheirEnvelope() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID))
+                .andExpect(jsonPath("$.employee").value((Object) null));
+        mockMvc.perform(get("/api/v1/countries/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value(ErrorMessages.COUNTRY_NOT_FOUND_WITH_ID))
+                .andExpect(jsonPath("$.area").value((Object) null));
+        mockMvc.perform(get("/api/v1/areas/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.area").value((Object) null));
+        mockMvc.perform(get("/api/v1/jobTitles/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.job_title").value((Object) null));
+    }
+
+    @Test
+    public void testMissingNamesAreReported() throws Exception {
+        mockMvc.perform(get("/api/v1/countries/code/ZZ"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value(ErrorMessages.COUNTRY_NOT_FOUND_WITH_CODE + "ZZ"));
+        mockMvc.perform(get("/api/v1/countries/name/Albania"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.area.name").value("Albania"));
+    }
+
+    @Test
+    public void testLookupsReturnEmptyAndFindsThrowStackless() {
+        assertFalse(employeeService.lookupEmployeeById(999L).isPresent());
+        assertFalse(employeeService.lookupEmployeeETag(999L).isPresent());
+        assertFalse(countryService.lookupCountryByCode("ZZ").isPresent());
+        assertTrue(employeeService.lookupEmployeeByUsername("atait").isPresent());
+
+        ResourceNotFoundException e = assertThrows(ResourceNotFoundException.class, () -> employeeService.findEmployeeById(999L));
+        assertEquals(ErrorMessages.EMPLOYEE_NOT_FOUND_WITH_ID + "999", e.getMessage());
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals(0, new FieldIsNullOrEmptyException(ErrorMessages.NAME_NOT_EMPTY).getStackTrace().length);
+        assertEquals(0, new EmployeeNotAbleToWorkException(ErrorMessages.ERROR_EMPLOYEE_NOT_ABLE_TO_WORK).getStackTrace().length);
+        assertEquals(0, new PreconditionFailedException(ErrorMessages.PRECONDITION_FAILED).getStackTrace().length);
+        assertEquals(0, new InvalidCursorException(ErrorMessages.INVALID_CURSOR).getStackTrace().length);
+    }
+
+    @Test
+    public void testExceptionHandlerWritesTheErrorAlone() throws Exception {
+        RestExceptionHandler handler = new RestExceptionHandler();
+
+        ResponseEntity<?> notFound = handler.handleResourceNotFound(new ResourceNotFoundException(ErrorMessages.RESOURCE_NOT_FOUND));
+        assertEquals(HttpStatus.NOT_FOUND, notFound.getStatusCode());
+        assertEquals("{\"error\":\"" + ErrorMessages.RESOURCE_NOT_FOUND + "\"}", objectMapper.writeValueAsString(notFound.getBody()));
+
+        ResponseEntity<?> notAbleToWork = handler.handleEmployeeNotAbleToWork();
+        assertEquals(HttpStatus.BAD_REQUEST, notAbleToWork.getStatusCode());
+        assertSame(notAbleToWork, handler.handleEmployeeNotAbleToWork());
+    }
+}
@@ -0,0 +1,112 @@
+package com.teaminternational.assessment.ewch;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:patch_update_db")
+public class PatchUpdateTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void testPatchRunsOneUpdateWithoutReading() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(patch("/api/v1/employees/3").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":false,\"tipRate\":1.5}"))
+                .andExpect(status().isOk());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        mockMvc.perform(get("/api/v1/employees/3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employee.status").value(false))
+                .andExpect(jsonPath("$.employee.tipRate").value(1.5))
+                .andExpect(jsonPath("$.employee.version").value(1));
+    }
+
+    @Test
+    public void testPatchKeepsTagsAndSearchIndexInSync() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/employees/4"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(patch("/api/v1/employees/4").contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, etag).content("{\"name\":\"Quentin Zabriskie\",\"jobTitleId\":8}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/v1/employees/4").contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, etag).content("{\"status\":true}"))
+                .andExpect(status().isPreconditionFailed());
+        String newEtag = mockMvc.perform(get("/api/v1/employees/4"))
+                .andExpect(jsonPath("$.employee.name").value("Quentin Zabriskie"))
+                .andExpect(jsonPath("$.employee.jobTitleName").value("Dishwasher"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+        mockMvc.perform(get("/api/v1/employees/search").param("q", "zabris"))
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id").value(4))
+                .andExpect(jsonPath("$.content[0].areaName").value("Kitchen"));
+    }
+
+    @Test
+    public void testPatchValidatesOnlySuppliedFields() throws Exception {
+        mockMvc.perform(patch("/api/v1/employees/5").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/v1/employees/5").contentType(MediaType.APPLICATION_JSON).content("{\"username\":\" \"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/v1/employees/5").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"dateOfBirth\":\"2020-01-01\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/v1/employees/999").contentType(MediaType.APPLICATION_JSON).content("{\"status\":true}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testPatchReferenceData() throws Exception {
+        mockMvc.perform(get("/api/v1/areas/1")).andExpect(jsonPath("$.area.jobTitles", hasSize(5)));
+        mockMvc.perform(patch("/api/v1/jobTitles/9").contentType(MediaType.APPLICATION_JSON).content("{\"areaId\":1}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/areas/1")).andExpect(jsonPath("$.area.jobTitles", hasSize(6)));
+
+        mockMvc.perform(patch("/api/v1/areas/2").contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Back of house\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/areas/2")).andExpect(jsonPath("$.area.name").value("Back of house"));
+        mockMvc.perform(get("/api/v1/employees/search").param("q", "hawes"))
+                .andExpect(jsonPath("$.content[0].areaName").value("Back of house"));
+        mockMvc.perform(patch("/api/v1/areas/2").contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Kitchen\"}"))
+                .andExpect(status().isOk());
+
+        String countries = mockMvc.perform(get("/api/v1/countries/all"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(patch("/api/v1/countries/3").contentType(MediaType.APPLICATION_JSON).content("{\"threeCharCode\":\"QAL\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/countries/code/QAL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.country.name").value("Albania"));
+        mockMvc.perform(get("/api/v1/countries/code/ALB")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/countries/all").header(HttpHeaders.IF_NONE_MATCH, countries))
+                .andExpect(status().isOk());
+    }
+}
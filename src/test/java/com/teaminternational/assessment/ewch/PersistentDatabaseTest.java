@@ -0,0 +1,43 @@
+package com.teaminternational.assessment.ewch;
+
+import com.teaminternational.assessment.ewch.service.ICountryService;
+import com.teaminternational.assessment.ewch.service.IEmployeeService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DirtiesContext
+@ActiveProfiles("persistent")
+@SpringBootTest(properties = "restaurant.db.file=./target/persistent-test/restaurant_db")
+public class PersistentDatabaseTest {
+
+    @Autowired
+    private IEmployeeService employeeService;
+
+    @Autowired
+    private ICountryService countryService;
+
+    @BeforeAll
+    public static void removeDatabase() throws IOException {
+        FileSystemUtils.deleteRecursively(Paths.get("./target/persistent-test"));
+    }
+
+    @Test
+    public void testBootsFromSnapshot() {
+        assertTrue(Files.exists(Paths.get("./target/persistent-test/restaurant_db.mv.db")));
+        assertEquals("atait", employeeService.findEmployeeById(1L).getUsername());
+        assertEquals(250, countryService.findAllCountries().size());
+        assertEquals("Kosovo", countryService.findCountryById(117L).getName());
+    }
+}
@@ -0,0 +1,216 @@
+package com.teaminternational.assessment.ewch;
+
+import com.teaminternational.assessment.ewch.repository.IAreaDao;
+import com.teaminternational.assessment.ewch.repository.ICountryDao;
+import com.teaminternational.assessment.ewch.repository.IEmployeeDao;
+import com.teaminternational.assessment.ewch.repository.IJobTitleDao;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs H2 EXPLAIN on the SQL of every repository query and fails when a table is read without an index condition,
+ * either as a table scan or as a walk over a whole index. Only whole-table reads may do that, and only on the table
+ * they read.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_plan_db",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.teaminternational.assessment.ewch.QueryPlanTest$SqlRecorder"
+})
+public class QueryPlanTest {
+
+    private static final Pattern QUOTED_TABLE = Pattern.compile("\"PUBLIC\"\\.\"(\\w+)\"");
+    private static final Pattern TABLE_ACCESS = Pattern.compile("/\\* PUBLIC\\.(\\w+)(\\.tableScan)?(:[^*]*)? \\*/");
+    private static final PageRequest PAGE = PageRequest.of(1, 20);
+
+    @Autowired
+    private IEmployeeDao employeeDao;
+
+    @Autowired
+    private IAreaDao areaDao;
+
+    @Autowired
+    private IJobTitleDao jobTitleDao;
+
+    @Autowired
+    private ICountryDao countryDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    public void seed() {
+        jdbcTemplate.update("INSERT INTO employees (id, name, username, date_of_birth, hire_date, job_title_id, country_id, status, tip_rate) "
+                + "SELECT X + 6, CONCAT('Employee ', X), CONCAT('plan', X), DATEADD('DAY', -MOD(X, 10000), DATE '1995-01-01'), "
+                + "DATEADD('DAY', -MOD(X, 5000), DATE '2020-01-01'), MOD(X, 9) + 1, MOD(X, 250) + 1, MOD(X, 10) <> 0, 0 "
+                + "FROM SYSTEM_RANGE(1, 10000)");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    public void testEmployeeQueriesUseIndexes() {
+        LocalDate date = LocalDate.of(1990, 1, 1);
+        assertIndexed(() -> employeeDao.findById(1L));
+        assertIndexed(() -> employeeDao.findEmployeeByName("Amit Tait"));
+        assertIndexed(() -> employeeDao.findEmployeeByUsername("atait"));
+        assertIndexed(() -> employeeDao.findByUsernameIn(Arrays.asList("atait", "hduncan")));
+        assertIndexed(() -> employeeDao.findVersionById(1L));
+        assertIndexed(() -> employeeDao.findKeysetPageAfter("Employee 5", 5L, PAGE));
+        assertIndexed(() -> employeeDao.findDtoById(1L));
+        assertIndexed(() -> employeeDao.findDtoByUsername("atait"));
+        assertIndexed(() -> employeeDao.findDtosByIdIn(Arrays.asList(1L, 2L)));
+        assertIndexed(() -> employeeDao.findIdsByIdIn(Arrays.asList(1L, 2L)));
+        assertIndexed(() -> employeeDao.findDtosByDateOfBirthBetween(date, date.plusYears(1), PAGE));
+        assertIndexed(() -> employeeDao.findDtosByBirthMonthDayBetween(101, 107));
+        assertIndexed(() -> employeeDao.findDtosByHireMonthDayBetween(101, 107, date));
+        assertScansOnly("EMPLOYEES", () -> employeeDao.findFirstKeysetPage(PAGE));
+        // LIKE patterns may start with a wildcard, so no index can serve them
+        assertScansOnly("EMPLOYEES", () -> employeeDao.findEmployeeByNameOrUsername("atait"));
+        assertScansOnly("EMPLOYEES", () -> employeeDao.findAll());
+        assertScansOnly("EMPLOYEES", () -> employeeDao.findAll(PAGE));
+        assertScansOnly("EMPLOYEES", () -> employeeDao.findAllDtos());
+        assertScansOnly("EMPLOYEES", () -> employeeDao.findAllDtos(PAGE));
+        assertScansOnly("EMPLOYEES", () -> employeeDao.streamAll().count());
+        // H2 drives the groupings from the grouped table, in group order, and probes employees through their foreign key
+        assertScansOnly("JOB_TITLES", () -> employeeDao.findAreaStatistics());
+        assertScansOnly("JOB_TITLES", () -> employeeDao.findJobTitleStatistics());
+        assertScansOnly("COUNTRIES", () -> employeeDao.findCountryStatistics());
+        assertScansOnly("EMPLOYEES", () -> employeeDao.findStatusStatistics());
+        // the nine job titles are the smaller side of the join, employees are probed through their foreign key
+        assertScansOnly("JOB_TITLES", () -> employeeDao.streamActiveTipRates().count());
+    }
+
+    @Test
+    public void testAreaQueriesUseIndexes() {
+        assertIndexed(() -> areaDao.findById(1L));
+        assertIndexed(() -> areaDao.findAreaByName("Kitchen"));
+        assertScansOnly("AREAS", () -> areaDao.findAll());
+        assertScansOnly("AREAS", () -> areaDao.findAll(PAGE).map(area -> area.getJobTitles().size()).getContent());
+        assertScansOnly("AREAS", () -> areaDao.findAllAreaJobTitles());
+    }
+
+    @Test
+    public void testJobTitleQueriesUseIndexes() {
+        assertIndexed(() -> jobTitleDao.findById(1L));
+        assertIndexed(() -> jobTitleDao.findJobTitleByName("Chef"));
+        assertIndexed(() -> jobTitleDao.findKeysetPageAfter("Chef", 6L, PAGE));
+        assertScansOnly("JOB_TITLES", () -> jobTitleDao.findFirstKeysetPage(PAGE));
+        assertScansOnly("JOB_TITLES", () -> jobTitleDao.findAllDtos());
+        assertScansOnly("JOB_TITLES", () -> jobTitleDao.findAllDtos(PAGE));
+        assertScansOnly("JOB_TITLES", () -> jobTitleDao.streamAll().count());
+    }
+
+    @Test
+    public void testCountryQueriesUseIndexes() {
+        assertIndexed(() -> countryDao.findById(1L));
+        assertIndexed(() -> countryDao.findCountryByName("Albania"));
+        assertIndexed(() -> countryDao.findKeysetPageAfter("Albania", 3L, PAGE));
+        assertScansOnly("COUNTRIES", () -> countryDao.findFirstKeysetPage(PAGE));
+        assertScansOnly("COUNTRIES", () -> countryDao.findAll());
+        assertScansOnly("COUNTRIES", () -> countryDao.streamAll().count());
+    }
+
+    private void assertIndexed(Runnable query) {
+        for (String plan : plans(query)) {
+            assertTrue(scannedTables(plan).isEmpty(), plan);
+        }
+    }
+
+    private void assertScansOnly(String table, Runnable query) {
+        for (String plan : plans(query)) {
+            List<String> scanned = scannedTables(plan);
+            scanned.removeIf(table::equals);
+            assertTrue(scanned.isEmpty(), plan);
+        }
+    }
+
+    /**
+     * Tables read without an index condition; an index comment carries its condition after a colon.
+     */
+    private static List<String> scannedTables(String plan) {
+        List<String> scanned = new ArrayList<>();
+        Matcher matcher = TABLE_ACCESS.matcher(plan);
+        while (matcher.find()) {
+            if (matcher.group(2) != null || matcher.group(3) == null) {
+                scanned.add(matcher.group(2) != null ? matcher.group(1) : tableOf(plan, matcher.start()));
+            }
+        }
+        return scanned;
+    }
+
+    /**
+     * The table an index comment belongs to is the last one named before it, e.g. "PUBLIC"."EMPLOYEES" "EMPLOYEE0_".
+     */
+    private static String tableOf(String plan, int indexComment) {
+        Matcher matcher = QUOTED_TABLE.matcher(plan.substring(0, indexComment));
+        String table = null;
+        while (matcher.find()) {
+            table = matcher.group(1);
+        }
+        return table;
+    }
+
+    private List<String> plans(Runnable query) {
+        entityManagerFactory.getCache().evictAll();
+        SqlRecorder.STATEMENTS.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> query.run());
+        List<String> statements = new ArrayList<>(SqlRecorder.STATEMENTS);
+        assertFalse(statements.isEmpty(), "No statement was run");
+        return statements.stream().map(this::explain).collect(Collectors.toList());
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    public static class SqlRecorder implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
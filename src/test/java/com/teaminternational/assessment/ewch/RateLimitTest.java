@@ -0,0 +1,89 @@
+package com.teaminternational.assessment.ewch;
+
+import com.teaminternational.assessment.ewch.utils.Constants;
+import com.teaminternational.assessment.ewch.utils.ErrorMessages;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rate_limit_db",
+        "restaurant.rate-limit.client=1000/1",
+        "restaurant.rate-limit.endpoint=1000/1",
+        "restaurant.rate-limit.endpoints=GET /employees/{id}=2/1,unmapped=2/1",
+        "restaurant.rate-limit.api-keys=kiosk-1,kiosk-2"})
+public class RateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void testRejectsClientOverEndpointLimitWithRetryAfter() throws Exception {
+        MockHttpServletResponse rejected = null;
+        for (int i = 0; i < 20 && rejected == null; i++) {
+            MockHttpServletResponse response = mockMvc.perform(get("/api/v1/employees/1"))
+                    .andReturn().getResponse();
+            if (response.getStatus() == 429) {
+                rejected = response;
+            } else {
+                assertEquals(200, response.getStatus());
+            }
+        }
+        assertTrue(rejected != null);
+        assertEquals("1", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(rejected.getContentAsString().contains(ErrorMessages.TOO_MANY_REQUESTS));
+
+        mockMvc.perform(get("/api/v1/employees/1").header(Constants.API_KEY_HEADER, "kiosk-2"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/employees/username/atait"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("restaurant_ratelimit_decision_seconds_count{outcome=\"rejected\",}")))
+                .andExpect(content().string(containsString("restaurant_ratelimit_buckets")));
+    }
+
+    @Test
+    public void testUnknownApiKeysAreLimitedByAddress() throws Exception {
+        int rejected = 0;
+        for (int i = 0; i < 10; i++) {
+            int status = mockMvc.perform(get("/api/v1/employees/2").header(Constants.API_KEY_HEADER, "random-" + i)
+                    .with(remoteAddr("10.0.0.7"))).andReturn().getResponse().getStatus();
+            rejected += status == 429 ? 1 : 0;
+        }
+        assertTrue(rejected >= 5);
+    }
+
+    @Test
+    public void testUnmappedPathsShareOneBucket() throws Exception {
+        int rejected = 0;
+        for (int i = 0; i < 10; i++) {
+            int status = mockMvc.perform(get("/api/v1/made-up/path-" + i).with(remoteAddr("10.0.0.8")))
+                    .andReturn().getResponse().getStatus();
+            rejected += status == 429 ? 1 : 0;
+        }
+        assertTrue(rejected >= 5);
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
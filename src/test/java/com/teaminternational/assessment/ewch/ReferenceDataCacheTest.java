@@ -0,0 +1,80 @@
+package com.teaminternational.assessment.ewch;
+
+import com.teaminternational.assessment.ewch.model.dto.AreaDto;
+import com.teaminternational.assessment.ewch.model.dto.CountryDto;
+import com.teaminternational.assessment.ewch.model.dto.JobTitleDto;
+import com.teaminternational.assessment.ewch.service.IAreaService;
+import com.teaminternational.assessment.ewch.service.ICountryService;
+import com.teaminternational.assessment.ewch.service.IJobTitleService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reference_cache_db",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DirtiesContext
+public class ReferenceDataCacheTest {
+
+    @Autowired
+    private ICountryService countryService;
+
+    @Autowired
+    private IAreaService areaService;
+
+    @Autowired
+    private IJobTitleService jobTitleService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testFindCountryByIdIsServedFromCache() {
+        countryService.findCountryById(1L);
+        countryService.findCountryById(1L);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindCountryByNameIsServedFromQueryCache() {
+        countryService.findCountryByName("Albania");
+        CountryDto country = countryService.findCountryByName("Albania");
+        assertEquals("ALB", country.getThreeCharCode());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testUpdateCountryInvalidatesNameQuery() {
+        countryService.findCountryByName("Algeria");
+        CountryDto country = countryService.findCountryById(4L);
+        country.setName("Algeria (updated)");
+        countryService.updateCountry(country, 4L, null);
+        assertEquals(4L, countryService.findCountryByName("Algeria (updated)").getId());
+    }
+
+    @Test
+    public void testCreateJobTitleRefreshesAreaJobTitles() {
+        int jobTitles = areaService.findAreaById(2L).getJobTitles().size();
+        jobTitleService.createJobTitle(new JobTitleDto(null, "Pastry Chef", 2L, null, null));
+        AreaDto area = areaService.findAreaById(2L);
+        assertEquals(jobTitles + 1, area.getJobTitles().size());
+    }
+}
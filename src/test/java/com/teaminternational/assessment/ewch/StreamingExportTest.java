@@ -0,0 +1,180 @@
+package com.teaminternational.assessment.ewch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.teaminternational.assessment.ewch.model.entity.Country;
+import com.teaminternational.assessment.ewch.model.entity.Employee;
+import com.teaminternational.assessment.ewch.service.ICountryService;
+import com.teaminternational.assessment.ewch.service.IEmployeeService;
+import com.teaminternational.assessment.ewch.utils.Constants;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:streaming_export_db",
+        "restaurant.execution.mode=async",
+        "restaurant.streaming.timeout=120000"
+})
+public class StreamingExportTest {
+
+    private static final long STREAMING_TIMEOUT = 120000L;
+
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IEmployeeService employeeService;
+
+    @Autowired
+    private ICountryService countryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testExportsAreChunkedJsonArrays() throws Exception {
+        JsonNode employees = objectMapper.readTree(stream(get("/api/v1/employees/all/stream").accept(MediaType.APPLICATION_JSON), MediaType.APPLICATION_JSON_VALUE));
+        assertEquals(6, employees.size());
+        assertEquals("atait", employees.get(0).get("username").asText());
+
+        JsonNode countries = objectMapper.readTree(stream(get("/api/v1/countries/all/stream")
+                .accept(MediaType.APPLICATION_JSON), MediaType.APPLICATION_JSON_VALUE));
+        assertEquals(250, countries.size());
+        assertEquals("Afghanistan", countries.get(0).get("name").asText());
+
+        JsonNode jobTitles = objectMapper.readTree(stream(get("/api/v1/jobTitles/all/stream")
+                .accept(MediaType.APPLICATION_JSON), MediaType.APPLICATION_JSON_VALUE));
+        assertEquals(9, jobTitles.size());
+    }
+
+    @Test
+    public void testExportsAreNdjsonWhenAsked() throws Exception {
+        String[] lines = new String(stream(get("/api/v1/countries/all/stream").header(HttpHeaders.ACCEPT, Constants.APPLICATION_NDJSON_VALUE),
+                Constants.APPLICATION_NDJSON_VALUE)).split("\n");
+        assertEquals(250, lines.length);
+        assertEquals("Afghanistan", objectMapper.readTree(lines[0]).get("name").asText());
+
+        lines = new String(stream(get("/api/v1/employees/all/stream").header(HttpHeaders.ACCEPT, Constants.APPLICATION_NDJSON_VALUE),
+                Constants.APPLICATION_NDJSON_VALUE)).split("\n");
+        assertEquals(6, lines.length);
+        for (String line : lines) {
+            assertTrue(objectMapper.readTree(line).has("id"));
+        }
+    }
+
+    @Test
+    public void testExportsFollowTheNegotiatedBinaryFormat() throws Exception {
+        JsonNode json = objectMapper.readTree(stream(get("/api/v1/employees/all/stream").accept(MediaType.APPLICATION_JSON), MediaType.APPLICATION_JSON_VALUE));
+        JsonNode cborBody = cbor.readTree(stream(get("/api/v1/employees/all/stream")
+                .accept(MediaType.APPLICATION_CBOR), MediaType.APPLICATION_CBOR_VALUE));
+        JsonNode smileBody = smile.readTree(stream(get("/api/v1/employees/all/stream")
+                .header(HttpHeaders.ACCEPT, "application/json;q=0.5, " + Constants.APPLICATION_SMILE_VALUE), Constants.APPLICATION_SMILE_VALUE));
+        assertEquals(json, cborBody);
+        assertEquals(json, smileBody);
+    }
+
+    @Test
+    public void testOnlyStreamsGetTheStreamingTimeout() throws Exception {
+        MvcResult streaming = mockMvc.perform(get("/api/v1/employees/all/stream").accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(STREAMING_TIMEOUT, ((MockAsyncContext) streaming.getRequest().getAsyncContext()).getTimeout());
+        mockMvc.perform(asyncDispatch(streaming)).andExpect(status().isOk());
+
+        MvcResult regular = mockMvc.perform(get("/api/v1/employees/2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertNotEquals(STREAMING_TIMEOUT, ((MockAsyncContext) regular.getRequest().getAsyncContext()).getTimeout());
+        mockMvc.perform(asyncDispatch(regular)).andExpect(status().isOk());
+    }
+
+    @Test
+    public void testStreamedRowsAreDetached() {
+        List<Long> managedEmployees = new ArrayList<>();
+        List<Long> managedCountries = new ArrayList<>();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(transaction ->
+                employeeService.streamAllEmployees(employee -> managedEmployees.add(managed(Employee.class))));
+        transactionTemplate.executeWithoutResult(transaction ->
+                countryService.streamAllCountries(country -> managedCountries.add(managed(Country.class))));
+        assertEquals(6, managedEmployees.size());
+        assertTrue(managedEmployees.stream().allMatch(count -> count <= 1));
+        assertEquals(250, managedCountries.size());
+        assertTrue(managedCountries.stream().allMatch(count -> count <= 1));
+    }
+
+    @Test
+    @Order(Integer.MAX_VALUE)
+    public void testEmptyTableStreamsNoRows() throws Exception {
+        jdbcTemplate.update("DELETE FROM employees");
+        assertEquals("[]", new String(stream(get("/api/v1/employees/all/stream").accept(MediaType.APPLICATION_JSON), MediaType.APPLICATION_JSON_VALUE)));
+        assertEquals("", new String(stream(get("/api/v1/employees/all/stream").header(HttpHeaders.ACCEPT, Constants.APPLICATION_NDJSON_VALUE),
+                Constants.APPLICATION_NDJSON_VALUE)));
+    }
+
+    private byte[] stream(MockHttpServletRequestBuilder builder, String contentType) throws Exception {
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(contentType))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    /**
+     * Entities of the given type currently managed by the persistence context of the running transaction.
+     */
+    private long managed(Class<?> entityType) {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityKeys().stream()
+                .filter(key -> entityType.getName().equals(((EntityKey) key).getEntityName()))
+                .count();
+    }
+}
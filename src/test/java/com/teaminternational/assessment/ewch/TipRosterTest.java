@@ -0,0 +1,105 @@
+package com.teaminternational.assessment.ewch;
+
+import com.teaminternational.assessment.ewch.exception.FieldIsNullOrEmptyException;
+import com.teaminternational.assessment.ewch.exception.InvalidArgumentException;
+import com.teaminternational.assessment.ewch.tips.TipRoster;
+import com.teaminternational.assessment.ewch.utils.Validations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TipRosterTest {
+
+    private final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        forkJoinPool.shutdown();
+    }
+
+    @Test
+    public void testLeftoverCentsGoToLargestRemainders() {
+        TipRoster roster = TipRoster.builder()
+                .add(1L, 10L, 100).add(1L, 11L, 200).add(1L, 12L, 0)
+                .add(2L, 20L, 100).add(2L, 21L, 100).add(2L, 22L, 100)
+                .build();
+        TipRoster.AreaShares[] results = roster.distribute(new long[]{1L, 2L}, new long[]{1000, 1000}, forkJoinPool);
+        assertArrayEquals(new long[]{333, 667, 0}, shares(results[0]));
+        assertArrayEquals(new long[]{334, 333, 333}, shares(results[1]));
+        assertEquals(21L, results[1].employeeId(1));
+    }
+
+    @Test
+    public void testInvalidPoolsAreRejectedAsBadArguments() {
+        assertThrows(InvalidArgumentException.class, () -> Validations.validateTipPools(Map.of(1L, new BigDecimal("-0.01"))));
+        assertThrows(InvalidArgumentException.class, () -> Validations.validateTipPools(Map.of(1L, new BigDecimal("1.001"))));
+        assertThrows(FieldIsNullOrEmptyException.class, () -> Validations.validateTipPools(Map.of()));
+        Validations.validateTipPools(Map.of(1L, new BigDecimal("12.50")));
+    }
+
+    @Test
+    public void testZeroRatesSplitEvenly() {
+        TipRoster roster = TipRoster.builder().add(1L, 1L, 0).add(1L, 2L, 0).add(1L, 3L, 0).build();
+        TipRoster.AreaShares[] results = roster.distribute(new long[]{1L}, new long[]{100}, forkJoinPool);
+        assertArrayEquals(new long[]{34, 33, 33}, shares(results[0]));
+    }
+
+    @Test
+    public void testAreaWithoutEmployeesKeepsItsPool() {
+        TipRoster roster = TipRoster.builder().add(1L, 1L, 50).build();
+        TipRoster.AreaShares[] results = roster.distribute(new long[]{7L}, new long[]{500}, forkJoinPool);
+        assertEquals(0, results[0].size());
+        assertEquals(0, results[0].distributed());
+        assertEquals(500, results[0].getPool());
+    }
+
+    @Test
+    public void testLargePoolsDoNotOverflow() {
+        long pool = Long.MAX_VALUE / 3;
+        TipRoster roster = TipRoster.builder().add(1L, 1L, 9_999_999_999L).add(1L, 2L, 1).add(1L, 3L, 9_999_999_999L).build();
+        TipRoster.AreaShares[] results = roster.distribute(new long[]{1L}, new long[]{pool}, forkJoinPool);
+        assertEquals(pool, results[0].distributed());
+    }
+
+    @Test
+    public void testSharesAddUpToEveryPoolAcrossManyAreas() {
+        Random random = new Random(42);
+        TipRoster.Builder builder = TipRoster.builder();
+        int areas = 200;
+        long id = 1;
+        for (long area = 1; area <= areas; area++) {
+            for (int i = 0; i < 1_000; i++) {
+                builder.add(area, id++, random.nextInt(500));
+            }
+        }
+        TipRoster roster = builder.build();
+        long[] areaIds = new long[areas];
+        long[] pools = new long[areas];
+        for (int i = 0; i < areas; i++) {
+            areaIds[i] = areas - i;
+            pools[i] = random.nextInt(10_000_000);
+        }
+        TipRoster.AreaShares[] results = roster.distribute(areaIds, pools, forkJoinPool);
+        for (int i = 0; i < areas; i++) {
+            assertEquals(areaIds[i], results[i].getAreaId());
+            assertEquals(1_000, results[i].size());
+            assertEquals(pools[i], results[i].distributed());
+        }
+    }
+
+    private static long[] shares(TipRoster.AreaShares result) {
+        long[] shares = new long[result.size()];
+        for (int i = 0; i < shares.length; i++) {
+            shares[i] = result.share(i);
+        }
+        return shares;
+    }
+}
@@ -0,0 +1,94 @@
+package com.teaminternational.assessment.ewch;
+
+import com.teaminternational.assessment.ewch.ratelimit.RateLimit;
+import com.teaminternational.assessment.ewch.ratelimit.TokenBuckets;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TokenBucketsTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void testBucketAllowsBurstThenRefills() {
+        TokenBuckets buckets = new TokenBuckets(4, 1_000);
+        RateLimit limit = new RateLimit(3, 2);
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, buckets.tryAcquire("kiosk", limit, now));
+        }
+        assertEquals(SECOND / 2, buckets.tryAcquire("kiosk", limit, now));
+        assertEquals(0, buckets.tryAcquire("other", limit, now));
+
+        assertEquals(0, buckets.tryAcquire("kiosk", limit, now + SECOND / 2));
+        assertEquals(SECOND / 2, buckets.tryAcquire("kiosk", limit, now + SECOND / 2));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, buckets.tryAcquire("kiosk", limit, now + 10 * SECOND));
+        }
+    }
+
+    @Test
+    public void testEvictsOnlyBucketsFullForTheIdlePeriod() {
+        TokenBuckets buckets = new TokenBuckets(2, 1_000);
+        RateLimit limit = new RateLimit(10, 1);
+        long now = 1_000 * SECOND;
+        buckets.tryAcquire("idle", limit, now);
+        for (int i = 0; i < 5; i++) {
+            buckets.tryAcquire("busy", limit, now + 50 * SECOND);
+        }
+        assertEquals(2, buckets.size());
+
+        assertEquals(1, buckets.evictIdle(now + 55 * SECOND, 30 * SECOND));
+        assertEquals(1, buckets.size());
+        assertEquals(0, buckets.evictIdle(now + 55 * SECOND, 30 * SECOND));
+        assertEquals(1, buckets.evictIdle(now + 100 * SECOND, 30 * SECOND));
+        assertEquals(0, buckets.size());
+    }
+
+    @Test
+    public void testNewKeysShareAnOverflowBucketOnceFull() {
+        TokenBuckets buckets = new TokenBuckets(1, 2);
+        RateLimit limit = new RateLimit(1, 1);
+        long now = 1_000 * SECOND;
+        assertEquals(0, buckets.tryAcquire("a", limit, now));
+        assertEquals(0, buckets.tryAcquire("b", limit, now));
+        assertEquals(0, buckets.tryAcquire("c", limit, now));
+        assertEquals(SECOND, buckets.tryAcquire("d", limit, now));
+        assertEquals(2, buckets.size());
+
+        assertEquals(2, buckets.evictIdle(now + 10 * SECOND, 5 * SECOND));
+        assertEquals(0, buckets.tryAcquire("d", limit, now + 10 * SECOND));
+    }
+
+    @Test
+    public void testReleaseGivesBackOneTokenButNeverOverfills() {
+        TokenBuckets buckets = new TokenBuckets(2, 1_000);
+        RateLimit limit = new RateLimit(2, 1);
+        long now = 1_000 * SECOND;
+        assertEquals(0, buckets.tryAcquire("kiosk", limit, now));
+        assertEquals(0, buckets.tryAcquire("kiosk", limit, now));
+        assertEquals(SECOND, buckets.tryAcquire("kiosk", limit, now));
+        buckets.release("kiosk", limit, now);
+        assertEquals(0, buckets.tryAcquire("kiosk", limit, now));
+
+        assertEquals(0, buckets.tryAcquire("other", limit, now));
+        buckets.release("other", limit, now);
+        buckets.release("other", limit, now);
+        assertEquals(0, buckets.tryAcquire("other", limit, now));
+        assertEquals(0, buckets.tryAcquire("other", limit, now));
+        assertEquals(SECOND, buckets.tryAcquire("other", limit, now));
+    }
+
+    @Test
+    public void testParsesCapacityAndRefill() {
+        RateLimit limit = RateLimit.parse(" 20/5 ");
+        assertEquals(20, limit.getCapacity());
+        assertEquals(5, limit.getRefillPerSecond());
+        assertThrows(IllegalArgumentException.class, () -> RateLimit.parse("20"));
+        assertThrows(IllegalArgumentException.class, () -> RateLimit.parse("0/5"));
+    }
+}